@@ -0,0 +1,84 @@
+package advent2023.bench;
+
+import advent2023.ByteSlice;
+import advent2023.Input;
+import advent2023.LineFold;
+import advent2023.StreamingSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scans of Part 1 of Day 1 on a large generated calibration document, on one thread: {@code swar} reads
+ * 8 bytes at a time and finds the digits and the newlines with bit masks, and {@code scalar} slices each line and
+ * scans it one byte at a time from each end.
+ * <p>
+ * The input is generated with a fixed seed to about {@code megabytes} of bytes, and is kept in the temp directory so
+ * that it is only generated once, e.g.:
+ * <pre>
+ *     java -jar bench/target/benchmarks.jar CalibrationScanBenchmark -p megabytes=4096
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CalibrationScanBenchmark {
+
+    @Param({ "swar", "scalar" })
+    public String scan;
+
+    @Param({ "2048" })
+    public int megabytes;
+
+    private StreamingSolver solver;
+    private Input input;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        solver = (StreamingSolver) Inputs.solver("01");
+        input = Input.map(Inputs.generated("01", megabytes));
+    }
+
+    @Benchmark
+    public long solve() {
+        var fold = solver.fold(true);
+        if (scan.equals("scalar")) {
+            fold = lineByLine(fold);
+        }
+        fold.addLines(input, 0, input.length());
+        return fold.answer();
+    }
+
+    /**
+     * Returns a fold of the same lines that does not override {@link LineFold#addLines}, so each line is sliced and
+     * added to the fold.
+     */
+    private static LineFold lineByLine(LineFold fold) {
+        return new LineFold() {
+
+            @Override
+            public void add(ByteSlice line) {
+                fold.add(line);
+            }
+
+            @Override
+            public long answer() {
+                return fold.answer();
+            }
+        };
+    }
+}
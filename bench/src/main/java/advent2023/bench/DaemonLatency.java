@@ -0,0 +1,130 @@
+package advent2023.bench;
+
+import advent2023.Daemon;
+import advent2023.DaemonClient;
+
+import java.io.IOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the latency of solving a puzzle with a new JVM against a warm {@link Daemon}.
+ * <p>
+ * Usage: {@code java -cp bench/target/benchmarks.jar advent2023.bench.DaemonLatency [--day=1] [--part=1]
+ * [--runs=20] [--input=input]}
+ * <p>
+ * The latency of each run is measured from the caller's side, and the p50, p99 and max of the runs are printed for:
+ * <ul>
+ *     <li>cold: a new JVM running {@code DayNN part path}, which pays for startup, class loading and interpreted
+ *         code on every run
+ *     <li>client: a new JVM running {@link DaemonClient}, which pays for startup but not for solving cold
+ *     <li>daemon: a new connection to the daemon from this JVM, which is the latency a script using {@code nc -U}
+ *         or a long-lived client sees
+ * </ul>
+ * The daemon runs in this JVM on a temporary Unix domain socket, and is warmed up with the same number of requests
+ * before it is measured.
+ * This is not a JMH benchmark, since most of what is measured happens in other processes.
+ */
+public class DaemonLatency {
+
+    public static void main(String[] args) throws Exception {
+        var day = 1;
+        var part = 1;
+        var runs = 20;
+        var inputDir = Path.of(System.getProperty("advent2023.input", "input"));
+        for (var arg : args) {
+            if (arg.startsWith("--day=")) {
+                day = Integer.parseInt(arg.substring("--day=".length()));
+            } else if (arg.startsWith("--part=")) {
+                part = Integer.parseInt(arg.substring("--part=".length()));
+            } else if (arg.startsWith("--runs=")) {
+                runs = Integer.parseInt(arg.substring("--runs=".length()));
+            } else if (arg.startsWith("--input=")) {
+                inputDir = Path.of(arg.substring("--input=".length()));
+            }
+        }
+        var path = inputDir.resolve(String.format("day%02d", day)).toAbsolutePath().toString();
+        var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        var classPath = System.getProperty("java.class.path");
+        var socket = Files.createTempDirectory("advent2023").resolve("daemon.sock");
+        var address = UnixDomainSocketAddress.of(socket);
+        var request = day + " " + part + " " + path;
+        var cold = List.of(java, "-cp", classPath, String.format("advent2023.Day%02d", day), Integer.toString(part),
+                path);
+        var client = List.of(java, "-cp", classPath, "advent2023.DaemonClient", "--socket=" + socket,
+                Integer.toString(day), Integer.toString(part), path);
+
+        System.out.printf("%-8s %10s %10s %10s%n", "Mode", "p50 (ms)", "p99 (ms)", "Max (ms)");
+        print("cold", time(runs, () -> exec(cold)));
+
+        try (var daemon = Daemon.start(address)) {
+            var server = new Thread(() -> {
+                try {
+                    daemon.serve();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }, "daemon");
+            server.setDaemon(true);
+            server.start();
+
+            // warm up the daemon, then measure it
+            time(runs, () -> check(DaemonClient.request(address, request)));
+            print("daemon", time(runs, () -> check(DaemonClient.request(address, request))));
+            print("client", time(runs, () -> exec(client)));
+        } finally {
+            Files.deleteIfExists(socket.getParent());
+        }
+    }
+
+    /**
+     * Returns the latency of each run in nanoseconds, sorted.
+     */
+    private static long[] time(int runs, Task task) throws Exception {
+        var nanos = new long[runs];
+        for (var i = 0; i < runs; i++) {
+            var start = System.nanoTime();
+            task.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static void exec(List<String> command) throws IOException, InterruptedException {
+        var process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        var status = process.waitFor();
+        if (status != 0) {
+            throw new IllegalStateException("exit status " + status + ": " + String.join(" ", command));
+        }
+    }
+
+    private static void check(String response) {
+        if (!response.startsWith("ok ")) {
+            throw new IllegalStateException(response);
+        }
+    }
+
+    private static void print(String mode, long[] sorted) {
+        System.out.printf("%-8s %10.3f %10.3f %10.3f%n", mode, percentile(sorted, 50) / 1e6,
+                percentile(sorted, 99) / 1e6, sorted[sorted.length - 1] / 1e6);
+    }
+
+    /**
+     * Returns the nearest-rank percentile of the sorted values.
+     */
+    private static long percentile(long[] sorted, int percentile) {
+        var rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private interface Task {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,62 @@
+package advent2023.bench;
+
+import advent2023.Input;
+import advent2023.Solver;
+import advent2023.Solvers;
+import advent2023.generate.Generators;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Locates the solver and the puzzle input for a day, or generates a large input for a day.
+ * The input directory is set with the {@code advent2023.input} system property and defaults to {@code input}.
+ */
+final class Inputs {
+
+    private Inputs() {
+    }
+
+    static Solver<Object> solver(String day) {
+        return Solvers.get(Integer.parseInt(day));
+    }
+
+    static Input input(String day) throws IOException {
+        var dir = System.getProperty("advent2023.input", "input");
+        var input = Input.map(Path.of(dir, "day" + day));
+        input.lineCount(); // index the lines
+        return input;
+    }
+
+    /**
+     * Returns an input of about the number of megabytes generated with a fixed seed, which is kept in the temp
+     * directory so that it is only generated once.
+     */
+    static Path generated(String day, int megabytes) throws IOException {
+        var dayNumber = Integer.parseInt(day);
+        var file = Path.of(System.getProperty("java.io.tmpdir"),
+                String.format("advent2023-day%02d-%dmb", dayNumber, megabytes));
+        if (!Files.exists(file)) {
+            generate(dayNumber, megabytes * 1_000_000L, file);
+        }
+        return file;
+    }
+
+    /**
+     * Generates an input of about the number of bytes, sized from the bytes of an input of the base size.
+     */
+    private static void generate(int day, long bytes, Path file) throws IOException {
+        var generator = Generators.get(day);
+        var sample = Files.createTempFile("advent2023-sample", ".txt");
+        try {
+            generator.generate(generator.baseSize(), 1, sample);
+            var size = (int) Math.min(Integer.MAX_VALUE, generator.baseSize() * bytes / Files.size(sample));
+            var temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            generator.generate(size, 1, temp);
+            Files.move(temp, file);
+        } finally {
+            Files.deleteIfExists(sample);
+        }
+    }
+}
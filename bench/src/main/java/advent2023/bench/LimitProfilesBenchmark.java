@@ -0,0 +1,83 @@
+package advent2023.bench;
+
+import advent2023.Day02;
+import advent2023.Input;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Part 1 of Day 2 for many profiles of color limits on a large generated game log: {@code table} parses the
+ * log once into a {@link Day02.GameTable} and sweeps it for each profile, and {@code reparse} folds the log again for
+ * each profile.
+ * <p>
+ * The profiles are random limits from 0 to 20 made with a fixed seed, e.g.:
+ * <pre>
+ *     java -jar bench/target/benchmarks.jar LimitProfilesBenchmark -p profiles=1000 -p mode=table
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class LimitProfilesBenchmark {
+
+    @Param({ "table", "reparse" })
+    public String mode;
+
+    @Param({ "100" })
+    public int profiles;
+
+    @Param({ "16" })
+    public int megabytes;
+
+    private Input input;
+    private int[][] limits;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        input = Input.map(Inputs.generated("02", megabytes));
+        var random = new SplittableRandom(1);
+        limits = new int[profiles][];
+        for (var i = 0; i < profiles; i++) {
+            limits[i] = random.ints(3, 0, 21).toArray();
+        }
+    }
+
+    @Benchmark
+    public long solve() {
+        var colors = new Day02().colors();
+        var sum = 0L;
+        if (mode.equals("table")) {
+            for (var possible : new Day02().table(input).possibleSums(limits)) {
+                sum += possible;
+            }
+        } else {
+            for (var profile : limits) {
+                var map = new LinkedHashMap<String, Integer>();
+                for (var color = 0; color < colors.size(); color++) {
+                    map.put(colors.get(color), profile[color]);
+                }
+                var fold = new Day02(map).fold(true);
+                fold.addLines(input, 0, input.length());
+                sum += fold.answer();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,71 @@
+package advent2023.bench;
+
+import advent2023.Input;
+import advent2023.ParallelSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the speedup of folding the lines of a large generated input in parallel, as the number of threads grows.
+ * <p>
+ * The input of each day is generated with a fixed seed to about {@code megabytes} of bytes, and is kept in the temp
+ * directory so that it is only generated once for all the thread counts, e.g., on a machine with 8 cores:
+ * <pre>
+ *     java -jar bench/target/benchmarks.jar ParallelFoldBenchmark -p day=01,09 -p threads=1,2,4,8
+ * </pre>
+ * The speedup for a thread count is the score for 1 thread divided by its score.
+ * Day 12 solves about a thousand times slower per byte than the other days, so it needs a much smaller input, e.g.,
+ * {@code -p day=12 -p megabytes=16}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ParallelFoldBenchmark {
+
+    @Param({ "01", "02", "04", "09" })
+    public String day;
+
+    @Param({ "1", "2", "4", "8" })
+    public int threads;
+
+    @Param({ "1024" })
+    public int megabytes;
+
+    private ParallelSolver solver;
+    private Input input;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        solver = (ParallelSolver) Inputs.solver(day);
+        input = Input.map(Inputs.generated(day, megabytes));
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long solve() {
+        return solver.solveParallel(input, true, pool);
+    }
+}
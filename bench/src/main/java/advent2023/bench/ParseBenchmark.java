@@ -0,0 +1,49 @@
+package advent2023.bench;
+
+import advent2023.Input;
+import advent2023.Solver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parse phase of each day: the mapped and line-indexed input file into the parsed input.
+ * Days 1 and 3 have no parse phase, see {@link Solver}, so their parse is only the cost of returning the input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParseBenchmark {
+
+    @Param({
+            "01", "02", "03", "04", "05", "06", "07", "08", "09", "10", "11",
+            "12", "13", "14", "15", "16", "17", "18", "19", "20", "21", "22" })
+    public String day;
+
+    private Solver<Object> solver;
+    private Input input;
+
+    @Setup
+    public void setup() throws Exception {
+        solver = Inputs.solver(day);
+        input = Inputs.input(day);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return solver.parse(input);
+    }
+}
@@ -0,0 +1,78 @@
+package advent2023.bench;
+
+import advent2023.Input;
+import advent2023.Solver;
+import advent2023.generate.Generators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the solve phase of each day and part grows with the size of the input.
+ * <p>
+ * The input is generated with a fixed seed at {@code scale} times the size of the puzzle input, so the score for each
+ * scale of a day is a point of a plot of runtime against input size, e.g.:
+ * <pre>
+ *     java -jar bench/target/benchmarks.jar ScalingBenchmark -p day=11 -p scale=1,4,16,64 -rf csv -rff day11.csv
+ * </pre>
+ * Each measurement is a single solve, since a solve of a large input can take seconds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ScalingBenchmark {
+
+    @Param({
+            "01", "02", "03", "04", "05", "06", "07", "08", "09", "10", "11",
+            "12", "13", "14", "15", "16", "17", "18", "19", "20", "21", "22" })
+    public String day;
+
+    @Param({ "1", "2" })
+    public String part;
+
+    @Param({ "1", "4", "16" })
+    public int scale;
+
+    private Path file;
+    private Solver<Object> solver;
+    private Object input;
+    private boolean part1;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        var generator = Generators.get(Integer.parseInt(day));
+        file = Files.createTempFile("day" + day + "-", ".txt");
+        generator.generate(generator.size(scale), 1, file);
+
+        solver = Inputs.solver(day);
+        input = solver.parse(Input.map(file));
+        part1 = part.equals("1");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long solve() {
+        return solver.solve(input, part1);
+    }
+}
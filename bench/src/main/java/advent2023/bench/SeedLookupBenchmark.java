@@ -0,0 +1,72 @@
+package advent2023.bench;
+
+import advent2023.Day05;
+import advent2023.Input;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding the locations of many seeds in a generated Day 5 almanac: {@code table} composes the maps once
+ * into a {@link Day05.LocationTable} and finds each seed with a binary search, and {@code layers} searches each map
+ * in turn for each seed.
+ * <p>
+ * The seeds are random values below 2^32 made with a fixed seed, e.g.:
+ * <pre>
+ *     java -jar bench/target/benchmarks.jar SeedLookupBenchmark -p seeds=10000000 -p mode=table
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class SeedLookupBenchmark {
+
+    @Param({ "table", "layers" })
+    public String mode;
+
+    @Param({ "1000000" })
+    public int seeds;
+
+    @Param({ "1" })
+    public int megabytes;
+
+    private Day05.Almanac almanac;
+    private long[] values;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        almanac = new Day05().parse(Input.map(Inputs.generated("05", megabytes)));
+        values = new SplittableRandom(1).longs(seeds, 0, 1L << 32).toArray();
+    }
+
+    @Benchmark
+    public long solve() {
+        var lowest = Long.MAX_VALUE;
+        if (mode.equals("table")) {
+            var table = new Day05().table(almanac);
+            for (var seed : values) {
+                lowest = Math.min(lowest, table.location(seed));
+            }
+        } else {
+            for (var seed : values) {
+                lowest = Math.min(lowest, almanac.location(seed));
+            }
+        }
+        return lowest;
+    }
+}
@@ -0,0 +1,52 @@
+package advent2023.bench;
+
+import advent2023.Solver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the solve phase of each day and part: the parsed input, created once per fork, into the answer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SolveBenchmark {
+
+    @Param({
+            "01", "02", "03", "04", "05", "06", "07", "08", "09", "10", "11",
+            "12", "13", "14", "15", "16", "17", "18", "19", "20", "21", "22" })
+    public String day;
+
+    @Param({ "1", "2" })
+    public String part;
+
+    private Solver<Object> solver;
+    private Object input;
+    private boolean part1;
+
+    @Setup
+    public void setup() throws Exception {
+        solver = Inputs.solver(day);
+        input = solver.parse(Inputs.input(day));
+        part1 = part.equals("1");
+    }
+
+    @Benchmark
+    public long solve() {
+        return solver.solve(input, part1);
+    }
+}
@@ -0,0 +1,68 @@
+package advent2023.bench;
+
+import advent2023.Day01;
+import advent2023.Input;
+import advent2023.WordMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Part 2 of Day 1 as the dictionary of the {@link WordMatcher} grows, which should take about the same time
+ * for every size.
+ * <p>
+ * The dictionary is the numbers spelled out in English followed by random lowercase words of 3 to 8 letters, made
+ * with a fixed seed, for {@code words} words in all.
+ * The random words are also matched, so the answer differs by size, but the number of bytes scanned stays about the
+ * same since most lines have a number within a few bytes of each end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WordMatcherBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int words;
+
+    private Day01 solver;
+    private Input input;
+
+    @Setup
+    public void setup() throws Exception {
+        var spelledOut = new ArrayList<>(List.of(
+                "zero", "one", "two", "three", "four", "five", "six", "seven", "eight", "nine"));
+        var random = new SplittableRandom(1);
+        while (spelledOut.size() < words) {
+            var word = new StringBuilder();
+            var length = random.nextInt(3, 9);
+            for (var i = 0; i < length; i++) {
+                word.append((char) random.nextInt('a', 'z' + 1));
+            }
+            spelledOut.add(word.toString());
+        }
+
+        solver = new Day01(Day01.numbers(spelledOut));
+        input = Inputs.input("01");
+    }
+
+    @Benchmark
+    public long solve() {
+        return solver.solve(input, false);
+    }
+}
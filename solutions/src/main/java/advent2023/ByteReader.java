@@ -0,0 +1,89 @@
+package advent2023;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Reads bytes and numbers forward through a {@link ByteSlice}.
+ * Numbers are parsed directly from the bytes without creating intermediate Strings.
+ */
+public final class ByteReader {
+
+    private final ByteSlice slice;
+    private int position;
+
+    public ByteReader(ByteSlice slice) {
+        this.slice = slice;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public boolean hasNext() {
+        return position < slice.length();
+    }
+
+    public byte peek() {
+        return slice.byteAt(position);
+    }
+
+    public byte next() {
+        return slice.byteAt(position++);
+    }
+
+    public void skip(int count) {
+        position = Math.min(position + count, slice.length());
+    }
+
+    /**
+     * Advances past the next occurrence of the byte, or to the end if it does not occur.
+     */
+    public void skipPast(byte b) {
+        var index = slice.indexOf(b, position);
+        position = index == -1 ? slice.length() : index + 1;
+    }
+
+    /**
+     * Returns true if there is another number after the current position.
+     * Bytes before the number are skipped.
+     */
+    public boolean hasNextNumber() {
+        while (position < slice.length()) {
+            var b = slice.byteAt(position);
+            if (b >= '0' && b <= '9'
+                    || b == '-' && position + 1 < slice.length() && isDigit(slice.byteAt(position + 1))) {
+                return true;
+            }
+            position++;
+        }
+        return false;
+    }
+
+    public int nextInt() {
+        return Math.toIntExact(nextLong());
+    }
+
+    /**
+     * Skips to the next number, which may have a leading '-', and parses it.
+     *
+     * @throws NoSuchElementException if there are no more numbers
+     */
+    public long nextLong() {
+        if (!hasNextNumber()) {
+            throw new NoSuchElementException();
+        }
+        var negative = slice.byteAt(position) == '-';
+        if (negative) {
+            position++;
+        }
+        var value = 0L;
+        while (position < slice.length() && isDigit(slice.byteAt(position))) {
+            value = 10 * value + slice.byteAt(position++) - '0';
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
@@ -0,0 +1,171 @@
+package advent2023;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A view of a range of bytes in an {@link Input}.
+ * No bytes are copied until the slice is converted to a String or an array.
+ */
+public final class ByteSlice {
+
+    private final Input input;
+    private final long start;
+    private final int length;
+
+    ByteSlice(Input input, long start, int length) {
+        this.input = input;
+        this.start = start;
+        this.length = length;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the input that the slice is a view of.
+     */
+    Input input() {
+        return input;
+    }
+
+    /**
+     * Returns the index of the first byte of the slice in its input.
+     */
+    long start() {
+        return start;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public byte byteAt(int index) {
+        return input.byteAt(start + index);
+    }
+
+    public int indexOf(byte b) {
+        return indexOf(b, 0);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the byte at or after {@code from}, or -1 if it does not occur.
+     */
+    public int indexOf(byte b, int from) {
+        for (var i = from; i < length; i++) {
+            if (byteAt(i) == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the bytes starting at {@code offset} are the ASCII characters of {@code str}.
+     */
+    public boolean regionMatches(int offset, String str) {
+        if (offset < 0 || offset + str.length() > length) {
+            return false;
+        }
+        for (var i = 0; i < str.length(); i++) {
+            if (byteAt(offset + i) != str.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public ByteSlice slice(int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("slice [" + from + ", " + to + ") of length " + length);
+        }
+        return new ByteSlice(input, start + from, to - from);
+    }
+
+    public ByteSlice slice(int from) {
+        return slice(from, length);
+    }
+
+    /**
+     * Splits the slice around each occurrence of the separator.
+     */
+    public List<ByteSlice> split(byte separator) {
+        var slices = new ArrayList<ByteSlice>();
+        var from = 0;
+        for (var i = 0; i < length; i++) {
+            if (byteAt(i) == separator) {
+                slices.add(slice(from, i));
+                from = i + 1;
+            }
+        }
+        slices.add(slice(from, length));
+        return slices;
+    }
+
+    public ByteReader reader() {
+        return new ByteReader(this);
+    }
+
+    /**
+     * Parses the whole slice as a signed decimal integer.
+     */
+    public int parseInt() {
+        return Math.toIntExact(parseLong());
+    }
+
+    /**
+     * Parses the whole slice as a signed decimal long.
+     */
+    public long parseLong() {
+        var negative = length > 0 && byteAt(0) == '-';
+        var i = negative ? 1 : 0;
+        if (i == length) {
+            throw new NumberFormatException("not a number: " + this);
+        }
+        var value = 0L;
+        for (; i < length; i++) {
+            var digit = byteAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("not a number: " + this);
+            }
+            value = 10 * value + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    public char[] toCharArray() {
+        var chars = new char[length];
+        for (var i = 0; i < length; i++) {
+            chars[i] = (char) byteAt(i);
+        }
+        return chars;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof ByteSlice slice) || slice.length != length) {
+            return false;
+        }
+        for (var i = 0; i < length; i++) {
+            if (byteAt(i) != slice.byteAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        var hash = 1;
+        for (var i = 0; i < length; i++) {
+            hash = 31 * hash + byteAt(i);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new String(toCharArray());
+    }
+}
@@ -0,0 +1,191 @@
+package advent2023;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A long-running process that solves puzzles on request, so that repeated runs do not pay for JVM startup and the
+ * solvers stay compiled by the JIT.
+ * <p>
+ * Usage: {@code Daemon [--socket=path | --port=n] [--input=input] [--warmup=0]}
+ * <ul>
+ *     <li>--socket: the path of the Unix domain socket to listen on (default: advent2023.sock in the temp directory)
+ *     <li>--port: a localhost TCP port to listen on instead of a Unix domain socket
+ *     <li>--input, --warmup: the solvers for every day are run on the inputs in the directory the number of times
+ *         before the daemon starts listening (default: no warmup)
+ * </ul>
+ * The protocol is one line of text for each request and response, so a connection can send any number of requests,
+ * and scripts can use {@code nc -U} or {@link DaemonClient}:
+ * <ul>
+ *     <li>request: {@code <day> <part> <path>}, e.g., {@code 17 2 input/day17}
+ *     <li>response: {@code ok <answer> <read ns> <parse ns> <solve ns>} or {@code error <message>}
+ * </ul>
+ * Each connection is served by its own thread.
+ */
+public class Daemon implements AutoCloseable {
+
+    public static final Path DEFAULT_SOCKET = Path.of(System.getProperty("java.io.tmpdir"), "advent2023.sock");
+
+    private final ServerSocketChannel server;
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+        var thread = new Thread(runnable, "daemon-connection");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Daemon(ServerSocketChannel server) {
+        this.server = server;
+    }
+
+    public static void main(String[] args) throws IOException {
+        SocketAddress address = UnixDomainSocketAddress.of(DEFAULT_SOCKET);
+        var inputDir = Path.of("input");
+        var warmup = 0;
+        for (var arg : args) {
+            if (arg.startsWith("--input=")) {
+                inputDir = Path.of(arg.substring("--input=".length()));
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = Integer.parseInt(arg.substring("--warmup=".length()));
+            } else {
+                address = address(arg);
+            }
+        }
+
+        for (var day = 1; day <= Solvers.days(); day++) {
+            for (var i = 0; i < warmup; i++) {
+                Runner.run(day, List.of(1, 2), inputDir, 0);
+            }
+        }
+
+        try (var daemon = start(address)) {
+            System.out.println("listening on " + address);
+            daemon.serve();
+        }
+    }
+
+    /**
+     * Parses a {@code --socket=path} or {@code --port=n} option.
+     *
+     * @throws IllegalArgumentException if the option is neither
+     */
+    public static SocketAddress address(String option) {
+        if (option.startsWith("--socket=")) {
+            return UnixDomainSocketAddress.of(option.substring("--socket=".length()));
+        } else if (option.startsWith("--port=")) {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    Integer.parseInt(option.substring("--port=".length())));
+        }
+        throw new IllegalArgumentException("unknown option: " + option);
+    }
+
+    /**
+     * Binds to the address, replacing a Unix domain socket file left by a previous daemon.
+     * Requests are not accepted until {@link #serve()} is called.
+     */
+    public static Daemon start(SocketAddress address) throws IOException {
+        ServerSocketChannel server;
+        if (address instanceof UnixDomainSocketAddress unixAddress) {
+            Files.deleteIfExists(unixAddress.getPath());
+            server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        } else {
+            server = ServerSocketChannel.open();
+        }
+        server.bind(address);
+        return new Daemon(server);
+    }
+
+    /**
+     * Accepts connections until the daemon is closed.
+     */
+    public void serve() throws IOException {
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = server.accept();
+            } catch (ClosedChannelException e) {
+                return;
+            }
+            connections.execute(() -> handle(channel));
+        }
+    }
+
+    private static void handle(SocketChannel channel) {
+        try (channel;
+             var reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+             Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8)) {
+            String request;
+            while ((request = reader.readLine()) != null) {
+                writer.write(respond(request));
+                writer.write('\n');
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the response to a request, without the line separator.
+     */
+    static String respond(String request) {
+        var fields = request.trim().split("\\s+", 3);
+        if (fields.length != 3) {
+            return "error expected <day> <part> <path>: " + request;
+        }
+        try {
+            var day = Integer.parseInt(fields[0]);
+            var part = Integer.parseInt(fields[1]);
+            if (part != 1 && part != 2) {
+                return "error part must be 1 or 2: " + part;
+            }
+            var solver = Solvers.get(day);
+
+            var readProbe = Probe.start(day, 0, Phase.READ);
+            var file = Input.map(Path.of(fields[2]));
+            file.lineCount();
+            var read = readProbe.stop();
+
+            var parseProbe = Probe.start(day, 0, Phase.PARSE);
+            var input = solver.parse(file);
+            var parse = parseProbe.stop();
+
+            var solveProbe = Probe.start(day, part, Phase.SOLVE);
+            var answer = solver.solve(input, part == 1);
+            var solve = solveProbe.stop();
+            return "ok " + answer + " " + read.wallNanos() + " " + parse.wallNanos() + " " + solve.wallNanos();
+        } catch (Exception e) {
+            return "error " + e;
+        }
+    }
+
+    /**
+     * Stops accepting connections.
+     * Requests on open connections are still answered.
+     */
+    @Override
+    public void close() throws IOException {
+        var address = server.getLocalAddress();
+        server.close();
+        connections.shutdown();
+        if (address instanceof UnixDomainSocketAddress unixAddress) {
+            Files.deleteIfExists(unixAddress.getPath());
+        }
+    }
+}
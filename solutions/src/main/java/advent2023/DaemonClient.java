@@ -0,0 +1,68 @@
+package advent2023;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * Sends a request to a {@link Daemon} and prints the answer, like running the day's class directly.
+ * <p>
+ * Usage: {@code DaemonClient [--socket=path | --port=n] <day> <part> <path>}
+ * <p>
+ * The answer is printed to stdout and the time of each phase in the daemon to stderr.
+ * The exit status is 1 if the daemon could not solve the request.
+ */
+public class DaemonClient {
+
+    public static void main(String[] args) throws IOException {
+        SocketAddress address = UnixDomainSocketAddress.of(Daemon.DEFAULT_SOCKET);
+        var fields = new ArrayList<String>();
+        for (var arg : args) {
+            if (arg.startsWith("--")) {
+                address = Daemon.address(arg);
+            } else {
+                fields.add(arg);
+            }
+        }
+        if (fields.size() != 3) {
+            System.err.println("usage: DaemonClient [--socket=path | --port=n] <day> <part> <path>");
+            System.exit(2);
+        }
+        // the daemon has its own working directory
+        var request = fields.get(0) + " " + fields.get(1) + " " + Path.of(fields.get(2)).toAbsolutePath();
+
+        var response = request(address, request).split(" ");
+        if (!response[0].equals("ok")) {
+            System.err.println(String.join(" ", response));
+            System.exit(1);
+        }
+        System.out.println(response[1]);
+        System.err.printf("read: %.3f ms, parse: %.3f ms, solve: %.3f ms%n", Runner.millis(Long.parseLong(response[2])),
+                Runner.millis(Long.parseLong(response[3])), Runner.millis(Long.parseLong(response[4])));
+    }
+
+    /**
+     * Sends a request on a new connection and returns the response, without the line separator.
+     */
+    public static String request(SocketAddress address, String request) throws IOException {
+        try (var channel = SocketChannel.open(address);
+             Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+             var reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8))) {
+            writer.write(request);
+            writer.write('\n');
+            writer.flush();
+            var response = reader.readLine();
+            if (response == null) {
+                throw new IOException("connection closed by the daemon");
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package advent2023;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Solution Description:
+ * <ul>
+ *      <li>Part 1: SWAR scan of bytes.
+ *          The input is read 8 bytes at a time into a long, and the number characters ('0' to '9' in ASCII) and the
+ *          newlines in the long are found with bit masks, so the lines are not sliced or indexed.
+ *          The lowest bit of each mask is the first number of a line and the highest bit before the newline is the
+ *          last number.
+ *          The number characters are converted to integers and combined to form the answer for each line.
+ *          A line that is streamed rather than read from an input is scanned one character at a time, forwards for the
+ *          first number and backwards for the last number.
+ *      <li>Part 2: Aho-Corasick automaton.
+ *          The number characters and the numbers spelled out (e.g., "one", "two", ..., "nine") are compiled into a
+ *          {@link WordMatcher}, which finds the first number with a forwards scan and the last number with a
+ *          backwards scan, at one table lookup per character.
+ *          The dictionary is pluggable, and the cost per character does not grow with the number of words, so
+ *          numbers spelled out in other languages or thousands of other words can be matched just as fast.
+ * </ul>
+ */
+public class Day01 implements Solver<Input>, ParallelSolver {
+
+    private static final List<String> NUMBERS = List.of(
+            "zero", "one", "two", "three", "four",
+            "five", "six", "seven", "eight", "nine");
+
+    private final WordMatcher numbers;
+
+    public Day01() {
+        this(numbers(NUMBERS));
+    }
+
+    /**
+     * Creates a solver whose Part 2 matches the words of the dictionary, whose values must be digits.
+     */
+    public Day01(WordMatcher numbers) {
+        this.numbers = numbers;
+    }
+
+    public static void main(String[] args) throws IOException {
+        new Day01().run(args);
+    }
+
+    /**
+     * Returns the input, since the calibration value of each line is found by scanning the bytes of the input in the
+     * solve phase, see {@link Solver}.
+     */
+    @Override
+    public Input parse(Input input) {
+        return input;
+    }
+
+    @Override
+    public long solve(Input input, boolean part1) {
+        // the same fold as a stream, so both sum into the same long
+        var fold = fold(part1);
+        fold.addLines(input, 0, input.length());
+        return fold.answer();
+    }
+
+    @Override
+    public LineFold fold(boolean part1) {
+        return part1 ? new Calibration() : LineFold.sum(this::doPart2);
+    }
+
+    private static int doPart1(ByteSlice line) {
+        var num = 0;
+        for (var i = 0; i < line.length(); i++) {
+            var c = line.byteAt(i);
+            if (c >= '0' && c <= '9') {
+                num = 10 * (c - '0');
+                break;
+            }
+        }
+
+        for (var i = line.length() - 1; i >= 0; i--) {
+            var c = line.byteAt(i);
+            if (c >= '0' && c <= '9') {
+                num += c - '0';
+                break;
+            }
+        }
+        return num;
+    }
+
+    /**
+     * The sum of the calibration values of Part 1, which scans a range of an input 8 bytes at a time.
+     * <p>
+     * The masks are built with plain long arithmetic rather than the Vector API, which is still an incubator module
+     * in Java 21 and would need {@code --add-modules jdk.incubator.vector} on every compile, test, benchmark and run.
+     */
+    private static final class Calibration implements LineFold {
+
+        private static final long ONES = 0x0101010101010101L;
+        private static final long HIGH_BITS = 0x8080808080808080L;
+        private static final long LOW_BITS = 0x7f7f7f7f7f7f7f7fL;
+
+        private long sum;
+
+        @Override
+        public void add(ByteSlice line) {
+            sum += doPart1(line);
+        }
+
+        @Override
+        public void addLines(Input input, long from, long to) {
+            var first = -1;
+            var last = 0;
+            for (var position = from; position < to; position += Long.BYTES) {
+                var word = input.longAt(position);
+                if (to - position < Long.BYTES) {
+                    // the bytes after the range are the next lines of another fold
+                    word &= -1L >>> (8 * (Long.BYTES - (to - position)));
+                }
+                var digits = digits(word);
+                var newlines = zeros(word ^ ('\n' * ONES));
+
+                while (newlines != 0) {
+                    var newline = Long.lowestOneBit(newlines);
+                    var before = digits & (newline - 1);
+                    if (before != 0) {
+                        if (first == -1) {
+                            first = digitAt(word, Long.numberOfTrailingZeros(before));
+                        }
+                        last = digitAt(word, 63 - Long.numberOfLeadingZeros(before));
+                    }
+                    if (first != -1) {
+                        sum += 10 * first + last;
+                        first = -1;
+                    }
+                    digits &= ~before;
+                    newlines ^= newline;
+                }
+
+                if (digits != 0) {
+                    if (first == -1) {
+                        first = digitAt(word, Long.numberOfTrailingZeros(digits));
+                    }
+                    last = digitAt(word, 63 - Long.numberOfLeadingZeros(digits));
+                }
+            }
+            if (first != -1) {
+                // the last line has no newline
+                sum += 10 * first + last;
+            }
+        }
+
+        @Override
+        public long answer() {
+            return sum;
+        }
+
+        /**
+         * Returns the high bit of each byte of the word that is '0' to '9'.
+         */
+        private static long digits(long word) {
+            // a byte is a digit if it is less than 10 after '0' is taken from it, which is when adding 128 - 10 to it
+            // does not reach the high bit, and it had no high bit to begin with
+            var offsets = word ^ ('0' * ONES);
+            return ~((offsets & LOW_BITS) + (118 * ONES) | offsets) & HIGH_BITS;
+        }
+
+        /**
+         * Returns the high bit of each byte of the word that is 0.
+         */
+        private static long zeros(long word) {
+            return ~((word & LOW_BITS) + LOW_BITS | word) & HIGH_BITS;
+        }
+
+        /**
+         * Returns the value of the digit of the byte whose high bit is the bit.
+         */
+        private static int digitAt(long word, int highBit) {
+            return (int) (word >>> (highBit - 7)) & 0x0f;
+        }
+    }
+
+    private int doPart2(ByteSlice line) {
+        var first = numbers.first(line);
+        return first == -1 ? 0 : 10 * first + numbers.last(line);
+    }
+
+    /**
+     * Returns a matcher of the number characters and the numbers spelled out, which are valued by their index modulo
+     * 10, e.g., "zero" to "nine" followed by "null" to "neun".
+     */
+    public static WordMatcher numbers(List<String> spelledOut) {
+        var words = new HashMap<String, Integer>();
+        for (var number = 0; number < spelledOut.size(); number++) {
+            words.put(String.valueOf(number % 10), number % 10);
+            words.put(spelledOut.get(number), number % 10);
+        }
+        return WordMatcher.of(words);
+    }
+}
@@ -0,0 +1,328 @@
+package advent2023;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Solution Description:
+ * <ul>
+ *     <li>Part 1: Three-row sliding window.
+ *         The rows are read one at a time into a window of the row above, the middle row and the row below, so only
+ *         three rows are kept no matter how many rows there are.
+ *         Each row has a bitmask of the columns that hold a symbol.
+ *         The masks of the three rows are combined and widened by a column on each side into a mask of the columns of
+ *         the middle row that are next to a symbol.
+ *         A number of the middle row is a part number if any of its columns is in the mask.
+ *     <li>Part 2: Three-row sliding window.
+ *         The same window is used as Part 1.
+ *         Each number of the middle row is given to the first gear (*) next to it, searching the neighbors of its
+ *         digits from left to right, and the neighbors of a digit from the top left to the bottom right.
+ *         Each gear of the window keeps the count and the product of the numbers given to it, and a row's gears are
+ *         complete once the numbers of the row below it are given out.
+ *         A gear's ratio is added to the sum if it has exactly two numbers.
+ * </ul>
+ * In parallel, the schematic is split into bands of rows, and each band is solved with the two rows above it and the
+ * two rows below it in its window.
+ * A part number or a gear is only next to the rows on either side of it, and the gear that a number next to the band
+ * is given to is decided by the rows on either side of the number, so each band has all it needs to solve its own rows
+ * and the sums of the bands are added without stitching the bands together.
+ */
+public class Day03 implements Solver<Input>, ParallelSolver {
+
+    public static void main(String[] args) throws IOException {
+        new Day03().run(args);
+    }
+
+    /**
+     * Returns the input, since the window of rows is filled by scanning the lines of the input in the solve phase,
+     * see {@link Solver}.
+     */
+    @Override
+    public Input parse(Input input) {
+        return input;
+    }
+
+    @Override
+    public long solve(Input input, boolean part1) {
+        return fold(part1).addAll(input).answer();
+    }
+
+    @Override
+    public LineFold fold(boolean part1) {
+        return new Schematic(part1);
+    }
+
+    private static boolean isDigit(byte c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * The window of three rows, where the middle row is solved when the row below it is added.
+     * <p>
+     * Each row is padded with a '.' on each side, so the neighbors of a column are never out of bounds.
+     * The rows before {@code firstRow} and after {@code lastRow} are only added to the window as neighbors of the rows
+     * of a band, and their part numbers and gears are not added to the sum.
+     */
+    private static final class Schematic implements LineFold {
+
+        private final boolean part1;
+        private int width;
+        private Row above = new Row();
+        private Row middle = new Row();
+        private Row below = new Row();
+        private Row blank = new Row();
+        private long[] adjacent = new long[1];
+        private int rows;
+        private int firstRow;
+        private int lastRow = Integer.MAX_VALUE;
+        private long sum;
+
+        Schematic(boolean part1) {
+            this.part1 = part1;
+        }
+
+        @Override
+        public void add(ByteSlice line) {
+            if (line.length() > width) {
+                widen(line.length());
+            }
+
+            // the row above is no longer needed, so it is reused for the row below
+            var row = above;
+            above = middle;
+            middle = below;
+            below = row;
+
+            var cells = row.cells;
+            var symbols = row.symbols;
+            Arrays.fill(symbols, 0);
+            Arrays.fill(row.gearNumbers, 0);
+            for (var i = 0; i < line.length(); i++) {
+                var c = line.byteAt(i);
+                cells[i + 1] = c;
+                if (!isDigit(c) && c != '.') {
+                    symbols[(i + 1) >>> 6] |= 1L << (i + 1);
+                }
+            }
+            Arrays.fill(cells, line.length() + 1, cells.length, (byte) '.');
+
+            // the middle row is row rows - 2
+            if (++rows > 1) {
+                solveRow(rows - 2, above, middle, below);
+            }
+        }
+
+        /**
+         * Adds the lines of the band, with the two lines before it and the two lines after it as neighbors.
+         */
+        @Override
+        public void addLines(Input input, long from, long to) {
+            if (from > 0) {
+                var end = from - 1; // the '\n' that ends the line before
+                var start = lineStart(input, end);
+                firstRow = start > 0 ? 2 : 1;
+                if (start > 0) {
+                    add(line(input, lineStart(input, start - 1), start - 1));
+                }
+                add(line(input, start, end));
+            }
+            input.foldLines(from, to, this);
+            lastRow = rows - 1;
+            var start = to;
+            for (var i = 0; i < 2 && start < input.length(); i++) {
+                var end = input.indexOf((byte) '\n', start);
+                add(line(input, start, end));
+                start = end + 1;
+            }
+        }
+
+        @Override
+        public long answer() {
+            if (rows == 0) {
+                return sum;
+            }
+            // the last row has no row below it
+            solveRow(rows - 1, middle, below, blank);
+            if (!part1 && isBandRow(rows - 1)) {
+                sum += gearRatios(below);
+            }
+            return sum;
+        }
+
+        /**
+         * Returns the start of the line that ends at the '\n' at {@code end}.
+         */
+        private static long lineStart(Input input, long end) {
+            var start = end;
+            while (start > 0 && input.byteAt(start - 1) != '\n') {
+                start--;
+            }
+            return start;
+        }
+
+        /**
+         * Returns the line from the start to the end, without a '\r' before the end.
+         */
+        private static ByteSlice line(Input input, long start, long end) {
+            if (end > start && input.byteAt(end - 1) == '\r') {
+                end--;
+            }
+            return new ByteSlice(input, start, (int) (end - start));
+        }
+
+        private boolean isBandRow(int index) {
+            return index >= firstRow && index <= lastRow;
+        }
+
+        /**
+         * Solves the row with the index, which is between the rows above and below it.
+         * For Part 2, the gears of the row above are then complete.
+         */
+        private void solveRow(int index, Row above, Row row, Row below) {
+            if (part1) {
+                if (isBandRow(index)) {
+                    sum += partNumbers(row.cells, above.symbols, row.symbols, below.symbols);
+                }
+            } else {
+                giveNumbersToGears(above, row, below);
+                if (index > 0 && isBandRow(index - 1)) {
+                    sum += gearRatios(above);
+                }
+            }
+        }
+
+        private long partNumbers(byte[] row, long[] aboveSymbols, long[] rowSymbols, long[] belowSymbols) {
+            // the columns with a symbol in any row, widened by a column on each side
+            var words = adjacent.length;
+            var previous = 0L;
+            var current = aboveSymbols[0] | rowSymbols[0] | belowSymbols[0];
+            for (var w = 0; w < words; w++) {
+                var next = w + 1 < words ? aboveSymbols[w + 1] | rowSymbols[w + 1] | belowSymbols[w + 1] : 0;
+                adjacent[w] = current | current << 1 | previous >>> 63 | current >>> 1 | next << 63;
+                previous = current;
+                current = next;
+            }
+
+            var sum = 0L;
+            var num = 0;
+            var isPart = false;
+            // the padding after the last column ends a number at the end of the row
+            for (var column = 1; column <= width + 1; column++) {
+                var c = row[column];
+                if (isDigit(c)) {
+                    num = 10 * num + c - '0';
+                    isPart |= (adjacent[column >>> 6] & 1L << column) != 0;
+                } else {
+                    if (isPart) {
+                        sum += num;
+                    }
+                    num = 0;
+                    isPart = false;
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * Gives each number of the row to the first gear next to it.
+         */
+        private void giveNumbersToGears(Row above, Row row, Row below) {
+            var cells = row.cells;
+            var num = 0;
+            Row gearRow = null;
+            var gearColumn = 0;
+            // the padding after the last column ends a number at the end of the row
+            for (var column = 1; column <= width + 1; column++) {
+                var c = cells[column];
+                if (isDigit(c)) {
+                    num = 10 * num + c - '0';
+                    if (gearRow == null) {
+                        // the neighbors from the top left to the bottom right
+                        if (above.cells[column - 1] == '*') {
+                            gearRow = above;
+                            gearColumn = column - 1;
+                        } else if (above.cells[column] == '*') {
+                            gearRow = above;
+                            gearColumn = column;
+                        } else if (above.cells[column + 1] == '*') {
+                            gearRow = above;
+                            gearColumn = column + 1;
+                        } else if (cells[column - 1] == '*') {
+                            gearRow = row;
+                            gearColumn = column - 1;
+                        } else if (cells[column + 1] == '*') {
+                            gearRow = row;
+                            gearColumn = column + 1;
+                        } else if (below.cells[column - 1] == '*') {
+                            gearRow = below;
+                            gearColumn = column - 1;
+                        } else if (below.cells[column] == '*') {
+                            gearRow = below;
+                            gearColumn = column;
+                        } else if (below.cells[column + 1] == '*') {
+                            gearRow = below;
+                            gearColumn = column + 1;
+                        }
+                    }
+                } else {
+                    if (gearRow != null) {
+                        var numbers = ++gearRow.gearNumbers[gearColumn];
+                        if (numbers == 1) {
+                            gearRow.gearRatios[gearColumn] = num;
+                        } else if (numbers == 2) {
+                            gearRow.gearRatios[gearColumn] *= num;
+                        }
+                    }
+                    num = 0;
+                    gearRow = null;
+                }
+            }
+        }
+
+        /**
+         * Returns the sum of the ratios of the gears of the row that have exactly two numbers.
+         */
+        private long gearRatios(Row row) {
+            var sum = 0L;
+            for (var column = 1; column <= width; column++) {
+                if (row.gearNumbers[column] == 2) {
+                    sum += row.gearRatios[column];
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * Widens the rows of the window for a longer row, padding the rows with '.'.
+         */
+        private void widen(int newWidth) {
+            width = newWidth;
+            var length = newWidth + 2;
+            above.widen(length);
+            middle.widen(length);
+            below.widen(length);
+            blank.widen(length);
+            adjacent = new long[(length + 63) >>> 6];
+        }
+    }
+
+    /**
+     * A row of the window: its cells, the columns that hold a symbol, and the numbers given to each gear.
+     */
+    private static final class Row {
+
+        private byte[] cells = { '.', '.' };
+        private long[] symbols = new long[1];
+        private int[] gearNumbers = new int[2];
+        private long[] gearRatios = new long[2];
+
+        void widen(int length) {
+            var wider = Arrays.copyOf(cells, length);
+            Arrays.fill(wider, cells.length - 1, length, (byte) '.');
+            cells = wider;
+            symbols = Arrays.copyOf(symbols, (length + 63) >>> 6);
+            gearNumbers = Arrays.copyOf(gearNumbers, length);
+            gearRatios = Arrays.copyOf(gearRatios, length);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package advent2023;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Solution Description:
+ * <ul>
+ *     <li>Part 1: Bitsets.
+ *         Each line is read one byte at a time into a bitset of the winning numbers and a bitset of the numbers.
+ *         The number of winning numbers of a card is the number of bits in both bitsets.
+ *     <li>Part 2: Forward sweep with a difference array.
+ *         The copies of a card are known once the cards before it have been seen, so the cards are swept forward once.
+ *         A card adds its copies to the range of cards it wins by changing the difference at each end of the range,
+ *         so each card is O(1) no matter how many cards it wins.
+ *         A card wins at most 128 cards, so only the differences of the next cards are kept, in a ring, and the cards
+ *         can be streamed.
+ * </ul>
+ */
+public class Day04 implements Solver<int[]>, ParallelSolver {
+
+    public static void main(String[] args) throws IOException {
+        new Day04().run(args);
+    }
+
+    @Override
+    public int[] parse(Input input) {
+        var cardWins = new int[input.lineCount()];
+
+        for (var i = 0; i < cardWins.length; i++) {
+            cardWins[i] = wins(input.line(i));
+        }
+        return cardWins;
+    }
+
+    @Override
+    public long solve(int[] cardWins, boolean part1) {
+        if (part1) {
+            var sum = 0L;
+            for (var win : cardWins) {
+                sum = Math.addExact(sum, points(win));
+            }
+            return sum;
+        }
+        var cards = new Cards();
+        for (var win : cardWins) {
+            cards.addCard(win);
+        }
+        return cards.answer();
+    }
+
+    @Override
+    public LineFold fold(boolean part1) {
+        if (part1) {
+            return new LineFold() {
+
+                private long sum;
+
+                @Override
+                public void add(ByteSlice line) {
+                    sum = Math.addExact(sum, points(wins(line)));
+                }
+
+                @Override
+                public long answer() {
+                    return sum;
+                }
+            };
+        }
+        return new Cards();
+    }
+
+    /**
+     * Folds Part 2 on a single thread, since the copies of a card depend on every card before it.
+     */
+    @Override
+    public long solveParallel(Input input, boolean part1, ForkJoinPool pool) {
+        if (part1) {
+            return ParallelSolver.super.solveParallel(input, true, pool);
+        }
+        var cards = new Cards();
+        cards.addLines(input, 0, input.length());
+        return cards.answer();
+    }
+
+    /**
+     * Returns the number of the card's numbers that are winning numbers.
+     * <p>
+     * The bytes of the line are read once, and each side of the bar is a bitset of its numbers in two longs, so the
+     * numbers of a card must be below 128.
+     */
+    private static int wins(ByteSlice line) {
+        var winnersLow = 0L;
+        var winnersHigh = 0L;
+        var numbersLow = 0L;
+        var numbersHigh = 0L;
+        var winners = true;
+        var number = -1;
+        // the end of the line ends the last number
+        for (var i = line.indexOf((byte) ':') + 1; i <= line.length(); i++) {
+            var c = i < line.length() ? line.byteAt(i) : (byte) ' ';
+            if (c >= '0' && c <= '9') {
+                number = (number < 0 ? 0 : 10 * number) + c - '0';
+                continue;
+            }
+            if (number >= 0) {
+                if (number >= 128) {
+                    throw new IllegalArgumentException("card number " + number + " is not below 128");
+                }
+                var bit = 1L << number;
+                if (winners) {
+                    winnersLow |= number < 64 ? bit : 0;
+                    winnersHigh |= number < 64 ? 0 : bit;
+                } else {
+                    numbersLow |= number < 64 ? bit : 0;
+                    numbersHigh |= number < 64 ? 0 : bit;
+                }
+                number = -1;
+            }
+            if (c == '|') {
+                winners = false;
+            }
+        }
+        return Long.bitCount(winnersLow & numbersLow) + Long.bitCount(winnersHigh & numbersHigh);
+    }
+
+    /**
+     * Returns the points of a card, throwing an {@link ArithmeticException} if they do not fit in a long.
+     */
+    private static long points(int win) {
+        if (win > Long.SIZE - 1) {
+            throw new ArithmeticException(win + " matches are worth more points than fit in a long");
+        }
+        return win == 0 ? 0 : 1L << (win - 1);
+    }
+
+    /**
+     * The number of cards, where the copies of each card are added to the cards it wins in a ring of differences.
+     * <p>
+     * The counts are added with exact arithmetic, so a count that does not fit in a long fails rather than wraps.
+     */
+    private static final class Cards implements LineFold {
+
+        // a card wins at most 128 cards, so the differences of a card's range are always within the ring
+        private static final int RING = 256;
+
+        private final long[] differences = new long[RING];
+        private int card;
+        private long copies;
+        private long sum;
+
+        @Override
+        public void add(ByteSlice line) {
+            addCard(wins(line));
+        }
+
+        void addCard(int wins) {
+            var index = card++ & (RING - 1);
+            copies = Math.addExact(copies, differences[index]);
+            differences[index] = 0;
+            var cards = Math.addExact(copies, 1);
+            sum = Math.addExact(sum, cards);
+            if (wins > 0) {
+                var first = (index + 1) & (RING - 1);
+                var end = (index + wins + 1) & (RING - 1);
+                differences[first] = Math.addExact(differences[first], cards);
+                differences[end] = Math.subtractExact(differences[end], cards);
+            }
+        }
+
+        @Override
+        public long answer() {
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package advent2023;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Solution Description:
+ * <ul>
+ *     <li>Part 1: Piecewise-linear lookup table.
+ *         The file is read as a list of seeds and a list of maps of source ranges to destination ranges.
+ *         The maps are composed, one at a time, into a single table of sorted, non-overlapping seed ranges, each with
+ *         the offset from a seed to its location.
+ *         Each seed is then found in the table with a binary search, no matter how many maps there are.
+ *     <li>Part 2: Interval splitting.
+ *         The seed ranges are pushed through each map as whole [start, end) intervals.
+ *         An interval is split at the boundaries of the mappings it overlaps, each piece inside a mapping is moved by
+ *         the mapping's offset, and the pieces between mappings are kept as they are.
+ *         The answer is the lowest start of the intervals after the last map, so the time depends on the number of
+ *         intervals and mappings, not on the size of the ranges.
+ * </ul>
+ */
+public class Day05 implements Solver<Day05.Almanac> {
+
+    public static void main(String[] args) throws IOException {
+        new Day05().run(args);
+    }
+
+    @Override
+    public Almanac parse(Input input) {
+        var seeds = new ArrayList<Long>();
+        var reader = input.line(0).reader();
+        while (reader.hasNextNumber()) {
+            seeds.add(reader.nextLong());
+        }
+        return new Almanac(seeds, getMaps(input));
+    }
+
+    /**
+     * Composes the maps of the almanac into a table that finds the location of any seed with one binary search.
+     */
+    public LocationTable table(Almanac almanac) {
+        return LocationTable.compile(almanac.maps);
+    }
+
+    @Override
+    public long solve(Almanac almanac, boolean part1) {
+        return part1 ? doPart1(almanac.seeds, almanac.maps) : doPart2(almanac.seeds, almanac.maps);
+    }
+
+    private static long doPart1(List<Long> seeds, List<List<Entry>> maps) {
+        var table = LocationTable.compile(maps);
+        var lowest = Long.MAX_VALUE;
+        for (var seed : seeds) {
+            lowest = Math.min(lowest, table.location(seed));
+        }
+        return lowest;
+    }
+
+    private static long doPart2(List<Long> seeds, List<List<Entry>> maps) {
+        var ranges = new Ranges(seeds.size() / 2);
+        for (var i = 0; i < seeds.size(); i += 2) {
+            if (seeds.get(i + 1) > 0) {
+                ranges.add(seeds.get(i), seeds.get(i) + seeds.get(i + 1));
+            }
+        }
+        for (var map : maps) {
+            ranges = mapRanges(ranges, map);
+        }
+
+        var lowest = Long.MAX_VALUE;
+        for (var i = 0; i < ranges.size; i++) {
+            lowest = Math.min(lowest, ranges.start(i));
+        }
+        return lowest;
+    }
+
+    /**
+     * Returns the ranges moved by the mappings of the map, which are sorted by source and do not overlap.
+     */
+    private static Ranges mapRanges(Ranges ranges, List<Entry> map) {
+        var mapped = new Ranges(ranges.size + map.size());
+        for (var i = 0; i < ranges.size; i++) {
+            var current = ranges.start(i);
+            var end = ranges.end(i);
+            for (var mapping : map) {
+                var mappingEnd = mapping.src + mapping.range;
+                if (mappingEnd <= current) {
+                    continue;
+                } else if (mapping.src >= end) {
+                    break;
+                }
+                if (mapping.src > current) {
+                    mapped.add(current, mapping.src);
+                    current = mapping.src;
+                }
+                var pieceEnd = Math.min(end, mappingEnd);
+                if (pieceEnd > current) {
+                    var offset = mapping.dest - mapping.src;
+                    mapped.add(current + offset, pieceEnd + offset);
+                    current = pieceEnd;
+                }
+            }
+            if (current < end) {
+                mapped.add(current, end);
+            }
+        }
+        return mapped;
+    }
+
+    /**
+     * Returns the location of the seed, found by searching each map in turn.
+     */
+    private static long traverse(List<List<Entry>> maps, long seed) {
+        var current = seed;
+        for (var map : maps) {
+            for (var mapping : map) {
+                if (current < mapping.src) {
+                    break;
+                } else if (current < mapping.src + mapping.range) {
+                    current = mapping.dest + current - mapping.src;
+                    break;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static List<List<Entry>> getMaps(Input input) {
+        List<List<Entry>> maps = new ArrayList<>();
+        var currentMap = new ArrayList<Entry>();
+        for (var i = 1; i < input.lineCount(); i++) {
+            var line = input.line(i);
+
+            if (line.isEmpty()) {
+                currentMap = new ArrayList<>();
+                maps.add(currentMap);
+            } else if (line.byteAt(0) >= '0' && line.byteAt(0) <= '9') {
+                var reader = line.reader();
+                var dest = reader.nextLong();
+                var src = reader.nextLong();
+                var range = reader.nextLong();
+                var entry = new Entry(src, dest, range);
+                currentMap.add(entry);
+            }
+        }
+
+        for (var map : maps) {
+            map.sort(Comparator.comparingLong(o -> o.src));
+        }
+        return maps;
+    }
+
+    /**
+     * The [start, end) intervals of values, packed in pairs into an array that grows as intervals are added.
+     */
+    private static final class Ranges {
+
+        private long[] bounds;
+        private int size;
+
+        Ranges(int capacity) {
+            bounds = new long[2 * Math.max(1, capacity)];
+        }
+
+        void add(long start, long end) {
+            if (2 * size == bounds.length) {
+                bounds = Arrays.copyOf(bounds, 2 * bounds.length);
+            }
+            bounds[2 * size] = start;
+            bounds[2 * size + 1] = end;
+            size++;
+        }
+
+        long start(int index) {
+            return bounds[2 * index];
+        }
+
+        long end(int index) {
+            return bounds[2 * index + 1];
+        }
+    }
+
+    public record Almanac(List<Long> seeds, List<List<Entry>> maps) {
+
+        /**
+         * Returns the location of the seed, found by searching each map in turn rather than with a
+         * {@link LocationTable}.
+         */
+        public long location(long seed) {
+            return traverse(maps, seed);
+        }
+    }
+
+    /**
+     * The composition of the maps of an almanac, as sorted seed ranges, each with the offset from a seed to its
+     * location.
+     * <p>
+     * Range i is the seeds from {@code starts[i]} to the start of the next range, or up without a limit for the last
+     * range, and seeds below the first range are their own locations.
+     */
+    public static final class LocationTable {
+
+        private long[] starts;
+        private long[] offsets;
+        private int size;
+
+        private LocationTable(int capacity) {
+            starts = new long[Math.max(1, capacity)];
+            offsets = new long[starts.length];
+        }
+
+        /**
+         * Composes the maps, whose mappings are sorted by source and do not overlap, starting from the table where
+         * every seed is its own location.
+         */
+        static LocationTable compile(List<List<Entry>> maps) {
+            var table = new LocationTable(1);
+            table.add(0, 0);
+            for (var map : maps) {
+                table = table.then(map);
+            }
+            return table;
+        }
+
+        /**
+         * Returns the location of the seed.
+         */
+        public long location(long seed) {
+            var index = Arrays.binarySearch(starts, 0, size, seed);
+            if (index < 0) {
+                // the range before the insertion point
+                index = -index - 2;
+            }
+            return index < 0 ? seed : seed + offsets[index];
+        }
+
+        /**
+         * Returns the number of seed ranges of the table.
+         */
+        public int segments() {
+            return size;
+        }
+
+        /**
+         * Returns the table of this table followed by the map.
+         * <p>
+         * The destinations of each range are split at the boundaries of the mappings they overlap, and each piece is a
+         * range of the new table with the sum of the offsets.
+         * The last range of a table always has an offset of 0, since the values past the last mapping of a map are
+         * not moved, so its destinations never overflow.
+         */
+        private LocationTable then(List<Entry> map) {
+            var table = new LocationTable(size + 2 * map.size());
+            for (var i = 0; i < size; i++) {
+                var offset = offsets[i];
+                var current = starts[i] + offset;
+                var end = i + 1 < size ? starts[i + 1] + offset : Long.MAX_VALUE;
+                for (var m = firstEndingAfter(map, current); m < map.size(); m++) {
+                    var mapping = map.get(m);
+                    var mappingEnd = mapping.src + mapping.range;
+                    if (mapping.src >= end) {
+                        break;
+                    }
+                    if (mapping.src > current) {
+                        table.add(current - offset, offset);
+                        current = mapping.src;
+                    }
+                    var pieceEnd = Math.min(end, mappingEnd);
+                    if (pieceEnd > current) {
+                        table.add(current - offset, offset + mapping.dest - mapping.src);
+                        current = pieceEnd;
+                    }
+                }
+                if (current < end) {
+                    table.add(current - offset, offset);
+                }
+            }
+            return table;
+        }
+
+        /**
+         * Returns the index of the first mapping of the map that ends after the value.
+         */
+        private static int firstEndingAfter(List<Entry> map, long value) {
+            var low = 0;
+            var high = map.size();
+            while (low < high) {
+                var middle = (low + high) >>> 1;
+                var mapping = map.get(middle);
+                if (mapping.src + mapping.range <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Adds a range that starts after the last range, merging it into the last range if they have the same offset.
+         */
+        private void add(long start, long offset) {
+            if (size > 0 && offsets[size - 1] == offset) {
+                return;
+            }
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, 2 * size);
+                offsets = Arrays.copyOf(offsets, 2 * size);
+            }
+            starts[size] = start;
+            offsets[size] = offset;
+            size++;
+        }
+    }
+
+    static class Entry {
+
+        final long src;
+        final long dest;
+        final long range;
+
+        public Entry(long src, long dest, long range) {
+            this.src = src;
+            this.dest = dest;
+            this.range = range;
+        }
+    }
+}
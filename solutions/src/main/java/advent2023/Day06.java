@@ -1,7 +1,7 @@
+package advent2023;
+
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -15,25 +15,44 @@ import java.util.List;
  *         the function is y'(x) = -2x + c and solving for y'(x) = 0 results in x = c / 2.
  * </ul>
  */
-public class Day06 {
+public class Day06 implements Solver<Day06.Races> {
 
     public static void main(String[] args) throws IOException {
-        var part1 = args[0].equals("1");
-        var lines = Files.readAllLines(Path.of(args[1]));
+        new Day06().run(args);
+    }
+
+    @Override
+    public Races parse(Input input) {
+        var times = input.line(0);
+        var distances = input.line(1);
+        return new Races(parseNumbers(times), parseNumbers(distances),
+                List.of(parseJoinedNumber(times)), List.of(parseJoinedNumber(distances)));
+    }
 
-        List<Long> times;
-        List<Long> distances;
-        if (part1) {
-            times = Arrays.stream(lines.getFirst().split(":")[1].trim().split("\\s+"))
-                    .map(Long::parseLong).toList();
-            distances = Arrays.stream(lines.get(1).split(":")[1].trim().split("\\s+"))
-                    .map(Long::parseLong).toList();
-        } else {
-            times = List.of(Long.parseLong(
-                    String.join("", lines.getFirst().split(":")[1].trim().split("\\s+"))));
-            distances = List.of(Long.parseLong(
-                    String.join("", lines.get(1).split(":")[1].trim().split("\\s+"))));
+    private static List<Long> parseNumbers(ByteSlice line) {
+        var numbers = new ArrayList<Long>();
+        var reader = line.reader();
+        while (reader.hasNextNumber()) {
+            numbers.add(reader.nextLong());
         }
+        return numbers;
+    }
+
+    private static long parseJoinedNumber(ByteSlice line) {
+        var number = 0L;
+        for (var i = 0; i < line.length(); i++) {
+            var c = line.byteAt(i);
+            if (c >= '0' && c <= '9') {
+                number = 10 * number + c - '0';
+            }
+        }
+        return number;
+    }
+
+    @Override
+    public long solve(Races races, boolean part1) {
+        var times = part1 ? races.times : races.joinedTimes;
+        var distances = part1 ? races.distances : races.joinedDistances;
 
         var product = 1L;
         for (var i = 0; i < times.size(); i++) {
@@ -73,7 +92,9 @@ public class Day06 {
 
             product *= higherBound - lowerBound + 1;
         }
+        return product;
+    }
 
-        System.out.println(product);
+    record Races(List<Long> times, List<Long> distances, List<Long> joinedTimes, List<Long> joinedDistances) {
     }
 }
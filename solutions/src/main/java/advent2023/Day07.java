@@ -1,8 +1,9 @@
+package advent2023;
+
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Solution Description:
@@ -19,19 +20,54 @@ import java.util.Arrays;
  *         Computing the rank of the hand is changed to incorporate the possibility of jokers.
  * </ul>
  */
-public class Day07 {
+public class Day07 implements Solver<Day07.Hands>, StreamingSolver {
 
     public static void main(String[] args) throws IOException {
-        var part1 = args[0].equals("1");
-        var lines = Files.readAllLines(Path.of(args[1]));
+        new Day07().run(args);
+    }
 
-        var hands = new ArrayList<Hand>();
-        for (var line : lines) {
-            var cards = line.split(" ")[0];
-            var bid = Integer.parseInt(line.split(" ")[1]);
-            hands.add(part1 ? Hand.createHandForPart1(cards, bid) : Hand.createHandForPart2(cards, bid));
+    @Override
+    public Hands parse(Input input) {
+        var part1Hands = new ArrayList<Hand>();
+        var part2Hands = new ArrayList<Hand>();
+        for (var i = 0; i < input.lineCount(); i++) {
+            var line = input.line(i);
+            part1Hands.add(parseHand(line, true));
+            part2Hands.add(parseHand(line, false));
         }
+        return new Hands(part1Hands, part2Hands);
+    }
+
+    /**
+     * Streams the parse phase: the hands of the part are parsed from each line, then sorted once all lines are read.
+     * The memory used is that of the parsed hands, not of the input.
+     */
+    @Override
+    public LineFold fold(boolean part1) {
+        var hands = new ArrayList<Hand>();
+        return new LineFold() {
+            @Override
+            public void add(ByteSlice line) {
+                hands.add(parseHand(line, part1));
+            }
 
+            @Override
+            public long answer() {
+                return solve(part1 ? new Hands(hands, List.of()) : new Hands(List.of(), hands), part1);
+            }
+        };
+    }
+
+    private static Hand parseHand(ByteSlice line, boolean part1) {
+        var space = line.indexOf((byte) ' ');
+        var cards = line.slice(0, space);
+        var bid = line.slice(space + 1).parseInt();
+        return part1 ? Hand.createHandForPart1(cards, bid) : Hand.createHandForPart2(cards, bid);
+    }
+
+    @Override
+    public long solve(Hands input, boolean part1) {
+        var hands = new ArrayList<>(part1 ? input.part1 : input.part2);
         hands.sort((o1, o2) -> {
             var c = Integer.compare(o1.rank, o2.rank);
             if (c != 0) {
@@ -50,10 +86,13 @@ public class Day07 {
         for (var i = 0 ; i < hands.size(); i++) {
             sum += (long) (i + 1) * hands.get(i).bid;
         }
-        System.out.println(sum);
+        return sum;
+    }
+
+    record Hands(List<Hand> part1, List<Hand> part2) {
     }
 
-    private static class Hand {
+    static class Hand {
 
         final int bid;
         final int[] cardValues;
@@ -65,10 +104,10 @@ public class Day07 {
             this.rank = rank;
         }
 
-        static Hand createHandForPart1(String cards, int bid) {
+        static Hand createHandForPart1(ByteSlice cards, int bid) {
             var cardValues = new int[cards.length()];
             for (var i = 0; i < cardValues.length; i++) {
-                var c = cards.charAt(i);
+                var c = cards.byteAt(i);
                 if (c >= '2' && c <= '9') {
                     cardValues[i] = c - '0';
                 } else if (c == 'T') {
@@ -109,10 +148,10 @@ public class Day07 {
             return new Hand(bid, cardValues, rank);
         }
 
-        static Hand createHandForPart2(String cards, int bid) {
+        static Hand createHandForPart2(ByteSlice cards, int bid) {
             var cardValues = new int[cards.length()];
             for (var i = 0; i < cardValues.length; i++) {
-                var c = cards.charAt(i);
+                var c = cards.byteAt(i);
                 if (c == 'J') {
                     cardValues[i] = 1;
                 } else if (c >= '2' && c <= '9') {
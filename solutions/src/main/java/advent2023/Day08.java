@@ -1,6 +1,6 @@
+package advent2023;
+
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.HashMap;
 
 /**
@@ -14,30 +14,30 @@ import java.util.HashMap;
  *         Compute the least common multiple of the number of steps for each traversal.
  * </ul>
  */
-public class Day08 {
+public class Day08 implements Solver<Day08.Network> {
 
     public static void main(String[] args) throws IOException {
-        var part1 = args[0].equals("1");
-        var lines = Files.readAllLines(Path.of(args[1]));
+        new Day08().run(args);
+    }
 
+    @Override
+    public Network parse(Input input) {
         var nodes = new HashMap<String, Node>();
-        var directions = lines.getFirst();
-        for (var i = 2; i < lines.size(); i++) {
-            var initial = lines.get(i).split("=");
-            var label = initial[0].trim();
-            var leftRight = initial[1].trim().split(",");
-            var left = leftRight[0].substring(1);
-            var right = leftRight[1].trim().substring(0, 3);
+        var directions = input.line(0).toString();
+        for (var i = 2; i < input.lineCount(); i++) {
+            // AAA = (BBB, CCC)
+            var line = input.line(i);
+            var label = line.slice(0, 3).toString();
+            var left = line.slice(7, 10).toString();
+            var right = line.slice(12, 15).toString();
             nodes.put(label, new Node(label, left, right));
         }
+        return new Network(nodes, directions);
+    }
 
-        if (part1) {
-            var steps = doPart1(nodes, directions);
-            System.out.println(steps);
-        } else {
-            var lcm = doPart2(nodes, directions);
-            System.out.println(lcm);
-        }
+    @Override
+    public long solve(Network network, boolean part1) {
+        return part1 ? doPart1(network.nodes, network.directions) : doPart2(network.nodes, network.directions);
     }
 
     private static int doPart1(HashMap<String, Node> nodes, String directions) {
@@ -83,7 +83,10 @@ public class Day08 {
         return a;
     }
 
-    private static class Node {
+    record Network(HashMap<String, Node> nodes, String directions) {
+    }
+
+    static class Node {
 
         final boolean start;
         final boolean end;
@@ -0,0 +1,132 @@
+package advent2023;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Solution Description:
+ * <ul>
+ *     <li>Part 1 and 2: Recursion.
+ *         Recursively calculate the difference between sequential pairs of numbers until the difference between numbers
+ *         is all zeros.
+ *         Each recursion function call then returns the new interpolated value (part 1: 1st value, part 2: last value).
+ * </ul>
+ */
+public class Day09 implements Solver<List<List<Long>>>, ParallelSolver {
+
+    public static void main(String[] args) throws IOException {
+        new Day09().run(args);
+    }
+
+    @Override
+    public List<List<Long>> parse(Input input) {
+        var sequences = new ArrayList<List<Long>>();
+        for (var i = 0; i < input.lineCount(); i++) {
+            var sequence = new ArrayList<Long>();
+            var reader = input.line(i).reader();
+            while (reader.hasNextNumber()) {
+                sequence.add(reader.nextLong());
+            }
+            sequences.add(sequence);
+        }
+        return sequences;
+    }
+
+    @Override
+    public long solve(List<List<Long>> sequences, boolean part1) {
+        var sum = 0L;
+        for (var sequence : sequences) {
+            var diff = getLastDiff(sequence, part1);
+            if (part1) {
+                var lastValue = sequence.getLast();
+                sum += lastValue + diff;
+            } else {
+                var firstValue = sequence.getFirst();
+                sum += firstValue - diff;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Streams each sequence into a reused array, where the differences are computed in place.
+     */
+    @Override
+    public LineFold fold(boolean part1) {
+        return new LineFold() {
+
+            private long[] values = new long[32];
+            private long sum;
+
+            @Override
+            public void add(ByteSlice line) {
+                var count = 0;
+                var reader = line.reader();
+                while (reader.hasNextNumber()) {
+                    if (count == values.length) {
+                        values = Arrays.copyOf(values, count * 2);
+                    }
+                    values[count++] = reader.nextLong();
+                }
+                sum += extrapolate(values, count, part1);
+            }
+
+            @Override
+            public long answer() {
+                return sum;
+            }
+        };
+    }
+
+    /**
+     * Returns the next (part 1) or previous (part 2) value of the sequence in the first {@code count} values, which are
+     * overwritten by the differences.
+     * The next value is the sum of the last value of each row of differences, and the previous value is the
+     * alternating sum of the first value of each row.
+     */
+    private static long extrapolate(long[] values, int count, boolean part1) {
+        var result = 0L;
+        var sign = 1;
+        for (var length = count; length > 0; length--) {
+            result += part1 ? values[length - 1] : sign * values[0];
+            sign = -sign;
+
+            var zeros = true;
+            for (var i = 0; i < length - 1; i++) {
+                values[i] = values[i + 1] - values[i];
+                zeros &= values[i] == 0;
+            }
+            if (zeros) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static long getLastDiff(List<Long> sequence, boolean part1) {
+        var diffSequence = new ArrayList<Long>();
+        var done = true;
+        for (var i = 1; i < sequence.size(); i++) {
+            var diff = sequence.get(i) - sequence.get(i - 1);
+            diffSequence.add(diff);
+            if (diff != 0) {
+                done = false;
+            }
+        }
+
+        if (done) {
+            return 0;
+        } else {
+            var diff = getLastDiff(diffSequence, part1);
+            if (part1) {
+                var lastValue = diffSequence.getLast();
+                return lastValue + diff;
+            } else {
+                var firstValue = diffSequence.getFirst();
+                return firstValue - diff;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package advent2023;
+
+import java.io.IOException;
+
+/**
+ * Solution Description:
+ * <ul>
+ *     <li>Part 1: Path traversal.
+ *         The loop is traversed all the way around.
+ *         The farthest distance is half the number of segments traversed.
+ *     <li>Part 2: Shoelace algo and Pick's theorem.
+ *         The loop is traversed to visit the vertices of the boundary that defines the polygon.
+ *         Each vertex is added to a {@link Polygon} as it is visited, which keeps the shoelace sum of the area.
+ *         Pick's theorem gives the number of tiles inside the loop from the area and the length of the boundary.
+ * </ul>
+ */
+public class Day10 implements Solver<Day10.Pipes> {
+
+    public static void main(String[] args) throws IOException {
+        new Day10().run(args);
+    }
+
+    @Override
+    public Pipes parse(Input input) {
+        var grid = Grid.parse(input, Grid.BORDER);
+        return new Pipes(grid, grid.indexOf((byte) 'S'));
+    }
+
+    @Override
+    public long solve(Pipes pipes, boolean part1) {
+        return part1 ? doPart1(pipes.grid, pipes.start) : doPart2(pipes.grid, pipes.start);
+    }
+
+    private static int doPart1(Grid grid, int start) {
+        var current = findStartPipe(grid, start);
+        var last = start;
+
+        var steps = 1;
+        while (grid.get(current) != 'S') {
+            steps++;
+            var newCurrent = traversePipe(grid, last, current);
+            last = current;
+            current = newCurrent;
+        }
+
+        return steps / 2 + ((steps % 2 == 1) ? 1 : 0);
+    }
+
+    private static long doPart2(Grid grid, int start) {
+        var current = findStartPipe(grid, start);
+        var last = start;
+
+        var polygon = new Polygon();
+        polygon.add(grid.row(start), grid.col(start));
+        while (grid.get(current) != 'S') {
+            polygon.add(grid.row(current), grid.col(current));
+            var newCurrent = traversePipe(grid, last, current);
+            last = current;
+            current = newCurrent;
+        }
+        return polygon.interiorPoints();
+    }
+
+    private static int findStartPipe(Grid grid, int start) {
+        for (var offset : grid.orthogonalOffsets()) {
+            var c = grid.get(start + offset);
+            if ((offset == Grid.LEFT && (c == 'L' || c == '-' || c == 'F'))              // west
+                    || (offset == Grid.RIGHT && (c == 'J' || c == '-' || c == '7'))      // east
+                    || (offset == grid.up() && (c == '7' || c == '|' || c == 'F'))       // north
+                    || (offset == grid.down() && (c == 'J' || c == '|' || c == 'L'))) {  // south
+                return start + offset;
+            }
+        }
+        return -1;
+    }
+
+    private static int traversePipe(Grid grid, int last, int current) {
+        var c = grid.get(current);
+        var diff = current - last;
+
+        if (c == '-' || c == '|') { // move east/west
+            return current + diff;
+        } else if (c == '7' || c == 'L') { // move south/east
+            return current + turn(grid, diff);
+        } else if (c == 'J' || c == 'F') {
+            return current - turn(grid, diff);
+        }
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * Swaps a horizontal step for a vertical step with the same sign, and vice versa.
+     */
+    private static int turn(Grid grid, int diff) {
+        return diff == Grid.LEFT || diff == Grid.RIGHT ? diff * grid.stride() : diff / grid.stride();
+    }
+
+    record Pipes(Grid grid, int start) {
+    }
+}
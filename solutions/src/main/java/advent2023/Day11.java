@@ -1,6 +1,6 @@
+package advent2023;
+
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 
 /**
@@ -12,18 +12,29 @@ import java.util.ArrayList;
  *         does not have a galaxy in which case the distance is 2 (100,000 in part 2).
  * </ul>
  */
-public class Day11 {
+public class Day11 implements Solver<char[][]> {
 
     public static void main(String[] args) throws IOException {
-        var part1 = args[0].equals("1");
-        var lines = Files.readAllLines(Path.of(args[1]));
+        new Day11().run(args);
+    }
+
+    @Override
+    public char[][] parse(Input input) {
+        var image = new char[input.lineCount()][];
+        for (var i = 0; i < image.length; i++) {
+            image[i] = input.line(i).toCharArray();
+        }
+        return image;
+    }
 
-        var rowEdges = new int[lines.size()];
-        var colEdges = new int[lines.getFirst().length()];
-        for (var i = 0; i < lines.size(); i++) {
-            var row = lines.get(i);
-            for (var j = 0; j < row.length(); j++) {
-                var isGalaxy = row.charAt(j) == '#';
+    @Override
+    public long solve(char[][] image, boolean part1) {
+        var rowEdges = new int[image.length];
+        var colEdges = new int[image[0].length];
+        for (var i = 0; i < image.length; i++) {
+            var row = image[i];
+            for (var j = 0; j < row.length; j++) {
+                var isGalaxy = row[j] == '#';
                 rowEdges[i] += isGalaxy ? 1 : 0;
                 colEdges[j] += isGalaxy ? 1 : 0;
             }
@@ -46,10 +57,10 @@ public class Day11 {
 
         var galaxyCoords = new ArrayList<Coordinate>();
         var numGalaxies = 0;
-        for (var i = 0; i < lines.size(); i++) {
-            var row = lines.get(i);
-            for (var j = 0; j < row.length(); j++) {
-                var isGalaxy = row.charAt(j) == '#';
+        for (var i = 0; i < image.length; i++) {
+            var row = image[i];
+            for (var j = 0; j < row.length; j++) {
+                var isGalaxy = row[j] == '#';
                 if (isGalaxy) {
                     galaxyCoords.add(new Coordinate(i, j, 0));
                     numGalaxies++;
@@ -76,7 +87,7 @@ public class Day11 {
                 }
             }
         }
-        System.out.println(sum);
+        return sum;
     }
 
     private record Coordinate(int row, int col, int steps) {
@@ -1,9 +1,10 @@
+package advent2023;
+
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -13,37 +14,68 @@ import java.util.Objects;
  *         A backtracking algorithm, with early escape, and memoization is used to test all possible combinations.
  * </ul>
  */
-public class Day12 {
+public class Day12 implements Solver<List<Day12.ConditionRecord>>, ParallelSolver {
 
     public static void main(String[] args) throws IOException {
-        var part1 = args[0].equals("1");
-        var lines = Files.readAllLines(Path.of(args[1]));
+        new Day12().run(args);
+    }
+
+    @Override
+    public List<ConditionRecord> parse(Input input) {
+        var records = new ArrayList<ConditionRecord>();
+        for (var i = 0; i < input.lineCount(); i++) {
+            records.add(parseRecord(input.line(i)));
+        }
+        return records;
+    }
 
+    @Override
+    public long solve(List<ConditionRecord> records, boolean part1) {
         var sum = 0L;
-        for (var line : lines) {
-            var springs = line.split(" ")[0];
-            var broken = Arrays.stream(line.split(" ")[1].split(",")).map(Integer::parseInt).toList();
-
-            if (!part1) {
-                var foldedSprings = springs;
-                var foldedBroken = new ArrayList<>(broken);
-                for (var i = 0; i < 4; i++) {
-                    foldedSprings += "?" + springs;
-                    foldedBroken.addAll(broken);
-                }
-                springs = foldedSprings;
-                broken = foldedBroken;
-            }
+        for (var conditionRecord : records) {
+            sum += arrangements(conditionRecord, part1);
+        }
+        return sum;
+    }
+
+    @Override
+    public LineFold fold(boolean part1) {
+        return LineFold.sum(line -> arrangements(parseRecord(line), part1));
+    }
+
+    private static ConditionRecord parseRecord(ByteSlice line) {
+        var space = line.indexOf((byte) ' ');
+        var springs = line.slice(0, space).toString();
+        var broken = new ArrayList<Integer>();
+        var reader = line.slice(space + 1).reader();
+        while (reader.hasNextNumber()) {
+            broken.add(reader.nextInt());
+        }
+        return new ConditionRecord(springs, broken);
+    }
+
+    private static long arrangements(ConditionRecord conditionRecord, boolean part1) {
+        var springs = conditionRecord.springs;
+        var broken = conditionRecord.broken;
 
-            var b = new int[broken.size()];
-            for (var i = 0; i < b.length; i++) {
-                b[i] = broken.get(i);
+        if (!part1) {
+            var foldedSprings = springs;
+            var foldedBroken = new ArrayList<>(broken);
+            for (var i = 0; i < 4; i++) {
+                foldedSprings += "?" + springs;
+                foldedBroken.addAll(broken);
             }
+            springs = foldedSprings;
+            broken = foldedBroken;
+        }
 
-            var memo = new HashMap<State, Long>();
-            sum += backtrack(memo, new State(springs.toCharArray(), 0, b, 0));
+        var b = new int[broken.size()];
+        for (var i = 0; i < b.length; i++) {
+            b[i] = broken.get(i);
         }
-        System.out.println(sum);
+
+        var memo = new HashMap<State, Long>();
+        return backtrack(memo, new State(springs.toCharArray(), 0, b, 0));
     }
 
     private static long backtrack(HashMap<State, Long> memo, State state) {
@@ -99,6 +131,9 @@ public class Day12 {
                 brokenCopy, state.brokenIndex));
     }
 
+    record ConditionRecord(String springs, List<Integer> broken) {
+    }
+
     private static class State {
 
         final char[] springs;
@@ -0,0 +1,108 @@
+package advent2023;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Solution Description:
+ * <ul>
+ *     <li>Part 1 and 2: Search.
+ *         A search is conducted for mirrored rows, followed by mirrored columns by comparing pairs of rows/columns.
+ *         Part 1 looks for an exact match.
+ *         Part 2 looks for a match with one error.
+ *         Note: You could do tricks with bitmasks to make the comparison faster, but the problem is heavily constrained
+ *               in size,
+ * </ul>
+ */
+public class Day13 implements Solver<List<Grid>> {
+
+    public static void main(String[] args) throws IOException {
+        new Day13().run(args);
+    }
+
+    @Override
+    public List<Grid> parse(Input input) {
+        var patterns = new ArrayList<Grid>();
+        var firstLine = 0;
+        for (var i = 0; i < input.lineCount(); i++) {
+            if (input.line(i).isEmpty()) {
+                patterns.add(Grid.parse(input, firstLine, i, Grid.BORDER));
+                firstLine = i + 1;
+            }
+        }
+        // last one
+        patterns.add(Grid.parse(input, firstLine, input.lineCount(), Grid.BORDER));
+        return patterns;
+    }
+
+    @Override
+    public long solve(List<Grid> patterns, boolean part1) {
+        var maxErrors = part1 ? 0 : 1;
+
+        var sum = 0L;
+        for (var pattern : patterns) {
+            sum += getValue(pattern, maxErrors);
+        }
+        return sum;
+    }
+
+    private static int getValue(Grid pattern, int maxErrors) {
+        var row = getRow(pattern, maxErrors);
+        if (row != 0) {
+            return 100 * row;
+        }
+        var col = getCol(pattern, maxErrors);
+        return col;
+    }
+
+    private static int getRow(Grid pattern, int maxErrors) {
+        var rows = pattern.rows();
+        for (var i = 1; i < rows; i++) {
+            var rowsToCheck = Math.min(i, rows - i);
+            var errors = 0;
+
+            for (var k = 1; errors <= maxErrors && k <= rowsToCheck; k++) {
+                var row1 = pattern.rowStart(i - k);
+                var row2 = pattern.rowStart(i + k - 1);
+
+                for (var j = 0; j < pattern.cols(); j++) {
+                    if (pattern.get(row1 + j) != pattern.get(row2 + j)) {
+                        errors++;
+                    }
+                }
+            }
+
+            if (errors == maxErrors) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static int getCol(Grid pattern, int maxErrors) {
+        var cols = pattern.cols();
+        var stride = pattern.stride();
+        for (var j = 1; j < cols; j++) {
+            var errors = 0;
+            var colsToCheck = Math.min(j, cols - j);
+
+            for (var k = 1; errors <= maxErrors && k <= colsToCheck; k++) {
+                var col1 = pattern.colStart(j - k);
+                var col2 = pattern.colStart(j + k - 1);
+                var end = pattern.colEnd(j - k);
+
+                for (; col1 < end; col1 += stride, col2 += stride) {
+                    if (pattern.get(col1) != pattern.get(col2)) {
+                        errors++;
+                    }
+                }
+            }
+
+            if (errors == maxErrors) {
+                return j;
+            }
+        }
+        return 0;
+    }
+}
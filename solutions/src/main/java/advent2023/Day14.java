@@ -0,0 +1,113 @@
+package advent2023;
+
+import java.io.IOException;
+import java.util.LinkedList;
+
+/**
+ * Solution Description:
+ * <ul>
+ *     <li>Part 1: Implementation.
+ *         The grid is parsed and the north tilt function is implemented.
+ *     <li>Part 2: Cycle detection.
+ *         The grid is tilted north, west, south, and east and a copy of the grid is stored in a linked list.
+ *         The linked list is then searched for a cycle: a previous grid is equal to the current grid.
+ *         The "spin cycle" iteration is then fast-forwarded to the end based on the cycle length, avoid repetitive
+ *         "spin cycle" iterations.
+ * </ul>
+ */
+public class Day14 implements Solver<Grid> {
+
+    public static void main(String[] args) throws IOException {
+        new Day14().run(args);
+    }
+
+    @Override
+    public Grid parse(Input input) {
+        return Grid.parse(input, (byte) '#');
+    }
+
+    @Override
+    public long solve(Grid input, boolean part1) {
+        // the grid is tilted in place
+        var grid = input.copy();
+
+        if (part1) {
+            tiltNorth(grid);
+        } else {
+            var pastGrids = new LinkedList<Grid>();
+            for (var i = 0; i < 1000000000; i++) {
+                pastGrids.addFirst(grid.copy());
+
+                tiltNorth(grid);
+                tiltWest(grid);
+                tiltSouth(grid);
+                tiltEast(grid);
+
+                for (var k = 0; k < pastGrids.size(); k++) {
+                    var pastGrid = pastGrids.get(k);
+                    if (grid.sameCells(pastGrid)) {
+                        var diffLength = k + 1;
+                        while (i < 1000000000 - diffLength) {
+                            i += diffLength;
+                        }
+                        pastGrids.clear();
+                    }
+                }
+            }
+        }
+
+        var sum = 0;
+        for (var i = 0; i < grid.rows(); i++) {
+            for (var index = grid.rowStart(i); index < grid.rowEnd(i); index++) {
+                if (grid.get(index) == 'O') {
+                    sum += grid.rows() - i;
+                }
+            }
+        }
+        return sum;
+    }
+
+    private static void tiltNorth(Grid grid) {
+        for (var j = 0; j < grid.cols(); j++) {
+            tilt(grid, grid.colStart(j), grid.colEnd(j), grid.down());
+        }
+    }
+
+    private static void tiltWest(Grid grid) {
+        for (var i = 0; i < grid.rows(); i++) {
+            tilt(grid, grid.rowStart(i), grid.rowEnd(i), Grid.RIGHT);
+        }
+    }
+
+    private static void tiltSouth(Grid grid) {
+        for (var j = 0; j < grid.cols(); j++) {
+            tilt(grid, grid.index(grid.rows() - 1, j), grid.colStart(j) + grid.up(), grid.up());
+        }
+    }
+
+    private static void tiltEast(Grid grid) {
+        for (var i = 0; i < grid.rows(); i++) {
+            tilt(grid, grid.index(i, grid.cols() - 1), grid.rowStart(i) + Grid.LEFT, Grid.LEFT);
+        }
+    }
+
+    /**
+     * Rolls the rocks in a row or column towards {@code start}, walking from {@code start} to {@code end} (exclusive)
+     * by {@code step}.
+     */
+    private static void tilt(Grid grid, int start, int end, int step) {
+        var target = start;
+        for (var index = start; index != end; index += step) {
+            var c = grid.get(index);
+            if (c == '#') {
+                target = index + step;
+            } else if (c == 'O') {
+                if (index != target) {
+                    grid.set(target, (byte) 'O');
+                    grid.set(index, (byte) '.');
+                }
+                target += step;
+            }
+        }
+    }
+}
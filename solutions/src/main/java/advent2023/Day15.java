@@ -1,8 +1,9 @@
+package advent2023;
+
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -15,23 +16,28 @@ import java.util.Map;
  *         for insertion, replacement, and deletion.
  * </ul>
  */
-public class Day15 {
+public class Day15 implements Solver<List<ByteSlice>> {
 
     public static void main(String[] args) throws IOException {
-        var part1 = args[0].equals("1");
-        var lines = Files.readAllLines(Path.of(args[1]));
+        new Day15().run(args);
+    }
+
+    @Override
+    public List<ByteSlice> parse(Input input) {
+        return input.line(0).split((byte) ',');
+    }
 
-        var steps = lines.getFirst().split(",");
-        var sum = part1 ? doPart1(steps) : doPart2(steps);
-        System.out.println(sum);
+    @Override
+    public long solve(List<ByteSlice> steps, boolean part1) {
+        return part1 ? doPart1(steps) : doPart2(steps);
     }
 
-    private static int doPart1(String[] steps) {
+    private static int doPart1(List<ByteSlice> steps) {
         var sum = 0;
         for (var sequence : steps) {
             var hash = 0;
             for (var i = 0; i < sequence.length(); i++) {
-                var c = sequence.charAt(i);
+                var c = sequence.byteAt(i);
                 hash += c;
                 hash *= 17;
                 hash %= 256;
@@ -41,22 +47,22 @@ public class Day15 {
         return sum;
     }
 
-    private static int doPart2(String[] steps) {
-        var boxes = new HashMap<Integer, Map<String, Integer>>();
+    private static int doPart2(List<ByteSlice> steps) {
+        var boxes = new HashMap<Integer, Map<ByteSlice, Integer>>();
 
         for (var sequence : steps) {
             var hash = 0;
 
             for (var i = 0; i < sequence.length(); i++) {
-                var c = sequence.charAt(i);
+                var c = sequence.byteAt(i);
 
                 if (c == '-' || c == '=') {
-                    var label = sequence.substring(0, i);
+                    var label = sequence.slice(0, i);
                     var box = boxes.computeIfAbsent(hash, k -> new LinkedHashMap<>());
                     if (c == '-') {
                         box.remove(label);
                     } else {
-                        var focalLength = sequence.charAt(i + 1);
+                        var focalLength = sequence.byteAt(i + 1);
                         box.put(label, focalLength - '0');
                     }
                     break;
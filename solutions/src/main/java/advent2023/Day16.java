@@ -0,0 +1,128 @@
+package advent2023;
+
+import java.io.IOException;
+
+/**
+ * Solution Description:
+ * <ul>
+ *     <li>Part 1 and 2: Breadth-first search.
+ *         The input is converted into a grid and the beam path is searched with a {@link GraphSearch}, where a state
+ *         is a cell and the direction the beam enters it.
+ *         A state is only searched once, so the search ends early if the same position in the grid has been
+ *         previously visited from the same direction.
+ *         The cells entered from any direction are energized.
+ * </ul>
+ */
+public class Day16 implements Solver<Grid> {
+
+    private static final int RIGHT = 0;
+    private static final int DOWN = 1;
+    private static final int LEFT = 2;
+    private static final int UP = 3;
+
+    public static void main(String[] args) throws IOException {
+        new Day16().run(args);
+    }
+
+    @Override
+    public Grid parse(Input input) {
+        return Grid.parse(input, Grid.BORDER);
+    }
+
+    @Override
+    public long solve(Grid grid, boolean part1) {
+        var rows = grid.rows();
+        var cols = grid.cols();
+        var beams = new Beams(grid);
+
+        if (part1) {
+            return beams.energized(grid.index(0, 0), RIGHT);
+        } else {
+            var max = 0;
+            for (var i = 0; i < rows; i++) { // left side
+                max = Math.max(max, beams.energized(grid.index(i, 0), RIGHT));
+            }
+            for (var j = 0; j < cols; j++) { // top side
+                max = Math.max(max, beams.energized(grid.index(0, j), DOWN));
+            }
+            for (var i = 0; i < rows; i++) { // right side
+                max = Math.max(max, beams.energized(grid.index(i, cols - 1), LEFT));
+            }
+            for (var j = 0; j < cols; j++) { // bottom side
+                max = Math.max(max, beams.energized(grid.index(rows - 1, j), UP));
+            }
+            return max;
+        }
+    }
+
+    /**
+     * The beams through the grid, where a state is a cell and a direction packed as {@code cell << 2 | direction}.
+     */
+    private static final class Beams implements GraphSearch.Neighbors {
+
+        private final Grid grid;
+        private final int[] offsets;
+        private final GraphSearch search;
+
+        Beams(Grid grid) {
+            this.grid = grid;
+            offsets = new int[] { Grid.RIGHT, grid.down(), Grid.LEFT, grid.up() };
+            search = GraphSearch.dense(grid.size() << 2);
+        }
+
+        /**
+         * Returns the number of cells a beam entering the cell in the direction passes through.
+         */
+        int energized(int cell, int dir) {
+            search.bfs(this, (state, distance) -> true, (long) cell << 2 | dir);
+
+            var count = 0;
+            for (var row = 0; row < grid.rows(); row++) {
+                for (var i = grid.rowStart(row); i < grid.rowEnd(row); i++) {
+                    var state = (long) i << 2;
+                    if (search.distance(state | RIGHT) != -1 || search.distance(state | DOWN) != -1
+                            || search.distance(state | LEFT) != -1 || search.distance(state | UP) != -1) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public void expand(long state, GraphSearch.Edges edges) {
+            var cell = (int) (state >>> 2);
+            var dir = (int) state & 3;
+            var c = grid.get(cell);
+
+            if (c == '.') {
+                move(cell, dir, edges);
+            } else if (c == '\\') {
+                move(cell, dir ^ 1, edges); // right and down, left and up
+            } else if (c == '/') {
+                move(cell, 3 - dir, edges); // right and up, down and left
+            } else if (c == '-') {
+                if (dir != RIGHT) {
+                    move(cell, LEFT, edges);
+                }
+                if (dir != LEFT) {
+                    move(cell, RIGHT, edges);
+                }
+            } else if (c == '|') {
+                if (dir != DOWN) {
+                    move(cell, UP, edges);
+                }
+                if (dir != UP) {
+                    move(cell, DOWN, edges);
+                }
+            }
+        }
+
+        private void move(int cell, int dir, GraphSearch.Edges edges) {
+            var next = cell + offsets[dir];
+            if (grid.get(next) != Grid.BORDER) {
+                edges.add((long) next << 2 | dir, 1);
+            }
+        }
+    }
+}
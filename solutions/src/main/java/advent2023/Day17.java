@@ -0,0 +1,120 @@
+package advent2023;
+
+import java.io.IOException;
+
+/**
+ * Solution Description:
+ * <ul>
+ *     <li>Part 1 and 2: A* search.
+ *         The grid is modeled as a weighted graph with each cell representing a node and the value of the cell
+ *         representing the weight of the edges into the node.
+ *         A state of the search is a cell, the direction of the last move, and the number of moves in that direction.
+ *         The graph is searched with A* on a {@link GraphSearch} to find the shortest path from the node represented
+ *         by the top left cell to the node represented by the bottom right cell.
+ *         The heuristic is the Manhattan distance to the bottom right cell, since every move loses at least 1 heat.
+ *         The only difference between part 1 and part 2 is the minimum number of movements before allowing a turn
+ *         (1 and 4) and the maximum number of movements before a turn is required (3 and 10).
+ * </ul>
+ */
+public class Day17 implements Solver<Grid> {
+
+    private static final int UP = 0;
+    private static final int RIGHT = 1;
+    private static final int DOWN = 2;
+    private static final int LEFT = 3;
+    /**
+     * The most states whose distances are kept in an array, above which they are kept in a hash map.
+     */
+    private static final long MAX_DENSE_STATES = Integer.MAX_VALUE - 8;
+
+    public static void main(String[] args) throws IOException {
+        new Day17().run(args);
+    }
+
+    @Override
+    public Grid parse(Input input) {
+        return Grid.parse(input, Grid.BORDER);
+    }
+
+    @Override
+    public long solve(Grid grid, boolean part1) {
+        var crucible = new Crucible(grid, part1 ? 1 : 4, part1 ? 3 : 10);
+        var targetRow = grid.rows() - 1;
+        var targetCol = grid.cols() - 1;
+        var target = grid.index(targetRow, targetCol);
+
+        var start = grid.index(0, 0);
+        var states = (long) grid.size() * crucible.statesPerCell;
+        var search = states <= MAX_DENSE_STATES ? GraphSearch.dense((int) states) : GraphSearch.hashed(grid.size());
+        return search.aStar(crucible,
+                state -> {
+                    var cell = crucible.cell(state);
+                    return targetRow - grid.row(cell) + targetCol - grid.col(cell);
+                },
+                state -> crucible.cell(state) == target && crucible.dirCount(state) >= crucible.minDirCount,
+                crucible.pack(start, RIGHT, 0), crucible.pack(start, DOWN, 0));
+    }
+
+    /**
+     * The moves of the crucible, where a state is packed densely into a long as
+     * {@code (cell * 4 + direction) * (maxDirCount + 1) + count}, so every key below the number of cells times
+     * {@link #statesPerCell} can be reached.
+     */
+    private static final class Crucible implements GraphSearch.Neighbors {
+
+        private final Grid grid;
+        private final int[] offsets;
+        private final int minDirCount;
+        private final int maxDirCount;
+        private final int counts;
+        private final int statesPerCell;
+
+        Crucible(Grid grid, int minDirCount, int maxDirCount) {
+            this.grid = grid;
+            this.minDirCount = minDirCount;
+            this.maxDirCount = maxDirCount;
+            counts = maxDirCount + 1;
+            statesPerCell = 4 * counts;
+            offsets = new int[] { grid.up(), Grid.RIGHT, grid.down(), Grid.LEFT };
+        }
+
+        long pack(int cell, int dir, int dirCount) {
+            return ((long) cell * 4 + dir) * counts + dirCount;
+        }
+
+        int cell(long state) {
+            return (int) (state / statesPerCell);
+        }
+
+        int dirCount(long state) {
+            return (int) (state % counts);
+        }
+
+        @Override
+        public void expand(long state, GraphSearch.Edges edges) {
+            var cell = cell(state);
+            var dir = (int) (state / counts) & 3;
+            var dirCount = dirCount(state);
+
+            if (dirCount + 1 <= maxDirCount) {
+                move(cell, dir, dirCount + 1, edges);
+            }
+            if (dirCount >= minDirCount) {
+                // turn left and right
+                move(cell, (dir + 3) & 3, 1, edges);
+                move(cell, (dir + 1) & 3, 1, edges);
+            }
+        }
+
+        /**
+         * Adds the move with the heat lost entering the next cell, unless it leaves the grid.
+         */
+        private void move(int cell, int dir, int dirCount, GraphSearch.Edges edges) {
+            var next = cell + offsets[dir];
+            var value = grid.get(next);
+            if (value != Grid.BORDER) {
+                edges.add(pack(next, dir, dirCount), value - '0');
+            }
+        }
+    }
+}
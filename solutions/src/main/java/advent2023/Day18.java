@@ -0,0 +1,103 @@
+package advent2023;
+
+import java.io.IOException;
+
+/**
+ * Solution Description:
+ * <ul>
+ *     <li>Part 1 and 2: Shoelace algo and Pick's theorem.
+ *         The input is parsed to extract the vertices of the boundary that defines the polygon.
+ *         Each vertex is added to a {@link Polygon} as it is parsed, which keeps the shoelace sum of the area.
+ *         Pick's theorem gives the number of cubes inside the boundary, and the cubes on the boundary are added.
+ * </ul>
+ */
+public class Day18 implements Solver<Input>, StreamingSolver {
+
+    public static void main(String[] args) throws IOException {
+        new Day18().run(args);
+    }
+
+    @Override
+    public Input parse(Input input) {
+        return input;
+    }
+
+    @Override
+    public long solve(Input input, boolean part1) {
+        return fold(part1).addAll(input).answer();
+    }
+
+    @Override
+    public LineFold fold(boolean part1) {
+        return new Lagoon(part1);
+    }
+
+    /**
+     * The polygon of the boundary so far, which only needs the current vertex rather than all the vertices.
+     */
+    private static final class Lagoon implements LineFold {
+
+        private final boolean part1;
+        private final Polygon polygon = new Polygon();
+        private long row;
+        private long col;
+
+        Lagoon(boolean part1) {
+            this.part1 = part1;
+            polygon.add(0, 0);
+        }
+
+        @Override
+        public void add(ByteSlice line) {
+            // R 6 (#70c710)
+            byte dir;
+            long num;
+
+            if (part1) {
+                dir = line.byteAt(0);
+                num = line.reader().nextLong();
+
+            } else {
+                var colorHex = line.slice(line.indexOf((byte) '#') + 1);
+                num = 0;
+                for (var i = 0; i < 5; i++) {
+                    num *= 16;
+
+                    var c = colorHex.byteAt(i);
+                    if (c >= '0' && c <= '9') {
+                        num += c - '0';
+                    } else {
+                        num += c - 'a' + 10;
+                    }
+                }
+
+                var c = colorHex.byteAt(5);
+                if (c == '0') {
+                    dir = 'R';
+                } else if (c == '1') {
+                    dir = 'D';
+                } else if (c == '2') {
+                    dir = 'L';
+                } else {
+                    dir = 'U';
+                }
+            }
+
+            if (dir == 'L') {
+                col -= num;
+            } else if (dir == 'R') {
+                col += num;
+            } else if (dir == 'U') {
+                row -= num;
+            } else if (dir == 'D') {
+                row += num;
+            }
+            polygon.add(row, col);
+        }
+
+        @Override
+        public long answer() {
+            return polygon.latticePoints();
+        }
+    }
+}
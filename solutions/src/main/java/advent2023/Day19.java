@@ -1,5 +1,7 @@
+package advent2023;
+
 import java.io.IOException;
-import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -23,7 +25,7 @@ import java.util.Map;
  *         condition and the failure evaluation of the condition.
  * </ul>
  */
-public class Day19 {
+public class Day19 implements Solver<Day19.Sorting> {
 
     private static final int[] XMAS = new int[128];
 
@@ -35,32 +37,48 @@ public class Day19 {
     }
 
     public static void main(String[] args) throws IOException {
-        var part1 = args[0].equals("1");
-        var lines = Files.readAllLines(java.nio.file.Path.of(args[1]));
+        new Day19().run(args);
+    }
 
+    @Override
+    public Sorting parse(Input input) {
         var workflows = new HashMap<String, String[]>();
 
         int i;
-        for (i = 0; i < lines.size(); i++) {
-            if (lines.get(i).isEmpty()) {
+        for (i = 0; i < input.lineCount(); i++) {
+            var line = input.line(i);
+            if (line.isEmpty()) {
                 i++;
                 break;
             }
-            var split = lines.get(i).split("\\{");
-            var rules = split[1].substring(0, split[1].length() - 1).split(",");
-            workflows.put(split[0], rules);
+            var brace = line.indexOf((byte) '{');
+            var rules = line.slice(brace + 1, line.length() - 1).split((byte) ',').stream()
+                    .map(ByteSlice::toString)
+                    .toArray(String[]::new);
+            workflows.put(line.slice(0, brace).toString(), rules);
         }
 
+        var parts = new ArrayList<List<Integer>>();
+        for (; i < input.lineCount(); i++) {
+            var values = new ArrayList<Integer>();
+            var reader = input.line(i).reader();
+            while (reader.hasNextNumber()) {
+                values.add(reader.nextInt());
+            }
+            parts.add(values);
+        }
+        return new Sorting(workflows, parts);
+    }
+
+    @Override
+    public long solve(Sorting sorting, boolean part1) {
+        var workflows = sorting.workflows;
         if (part1) {
             var accepted = 0;
-            for (; i < lines.size(); i++) {
-                var line = lines.get(i);
-                var values = Arrays.stream(line.substring(1, line.length() - 1).split(","))
-                        .map(x -> Integer.parseInt(x.split("=")[1]))
-                        .toList();
+            for (var values : sorting.parts) {
                 accepted += doWorkflows1(workflows, "in", values);
             }
-            System.out.println(accepted);
+            return accepted;
         } else {
             var state = new State();
             List<State> acceptedStates = new LinkedList<State>();
@@ -74,8 +92,7 @@ public class Day19 {
                 }
                 sum += states;
             }
-
-            System.out.println(sum);
+            return sum;
         }
     }
 
@@ -148,6 +165,9 @@ public class Day19 {
         }
     }
 
+    record Sorting(HashMap<String, String[]> workflows, List<List<Integer>> parts) {
+    }
+
     private static class State {
 
         int[] min = { 1, 1, 1, 1 };
@@ -1,5 +1,6 @@
+package advent2023;
+
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -21,18 +22,23 @@ import java.util.Queue;
  *         send a low pulse.
  * </ul>
  */
-public class Day20 {
+public class Day20 implements Solver<Map<String, Day20.Mod>> {
 
     public static void main(String[] args) throws IOException {
-        var part1 = args[0].equals("1");
-        var lines = Files.readAllLines(java.nio.file.Path.of(args[1]));
+        new Day20().run(args);
+    }
 
+    @Override
+    public Map<String, Mod> parse(Input input) {
         var mods = new HashMap<String, Mod>();
-        for (var line : lines) {
-            var split = line.split(" -> ");
-            var name = split[0];
+        for (var i = 0; i < input.lineCount(); i++) {
+            // %a -> b, c
+            var line = input.line(i);
+            var name = line.slice(0, line.indexOf((byte) ' ')).toString();
             var type = name.charAt(0);
-            var destinations = split[1].split(", ");
+            var destinations = line.slice(line.indexOf((byte) '>') + 1).split((byte) ',').stream()
+                    .map(x -> x.toString().trim())
+                    .toArray(String[]::new);
 
             if (type == '%') {
                 mods.put(name.substring(1), new FlipMod(name.substring(1), destinations));
@@ -56,9 +62,17 @@ public class Day20 {
                 }
             }
         }
+        return mods;
+    }
 
-        var result = part1 ? doPart1(mods) : doPart2(mods);
-        System.out.println(result);
+    @Override
+    public long solve(Map<String, Mod> input, boolean part1) {
+        // pressing the button changes the state of the modules
+        var mods = new HashMap<String, Mod>();
+        for (var mod : input.values()) {
+            mods.put(mod.name, mod.copy());
+        }
+        return part1 ? doPart1(mods) : doPart2(mods);
     }
 
     private static long doPart1(Map<String, Mod> mods) {
@@ -152,7 +166,7 @@ public class Day20 {
 
     private record Pulse(String src, String dest, boolean high) {}
 
-    private static class Mod {
+    static class Mod {
 
         String name;
         List<String> srcs;
@@ -164,6 +178,16 @@ public class Day20 {
             this.dests = Arrays.stream(dests).toList();
             srcs = new ArrayList<>();
         }
+
+        Mod(Mod mod) {
+            name = mod.name;
+            dests = mod.dests;
+            srcs = mod.srcs;
+        }
+
+        Mod copy() {
+            return new Mod(this);
+        }
     }
 
     private static class FlipMod extends Mod {
@@ -173,6 +197,15 @@ public class Day20 {
         FlipMod(String name, String[] destinations) {
             super(name, destinations);
         }
+
+        FlipMod(FlipMod mod) {
+            super(mod);
+        }
+
+        @Override
+        Mod copy() {
+            return new FlipMod(this);
+        }
     }
 
     private static class ConjMod extends Mod {
@@ -184,6 +217,19 @@ public class Day20 {
             srcPulses = new HashMap<>();
         }
 
+        ConjMod(ConjMod mod) {
+            super(mod);
+            srcPulses = new HashMap<>();
+            for (var src : mod.srcPulses.keySet()) {
+                srcPulses.put(src, false);
+            }
+        }
+
+        @Override
+        Mod copy() {
+            return new ConjMod(this);
+        }
+
         boolean isAllHigh() {
             var high = true;
             for (var src : srcPulses.values()) {
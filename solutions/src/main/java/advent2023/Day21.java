@@ -0,0 +1,129 @@
+package advent2023;
+
+import java.io.IOException;
+
+/**
+ * Solution Description:
+ * <ul>
+ *     <li>Part 1: Breadth-first search.
+ *         The grid is traversed with a {@link GraphSearch} from the starting location to find the fewest steps to each
+ *         garden plot within 64 steps.
+ *         A plot can be reached in exactly 64 steps if the fewest steps to it has the same parity as 64.
+ *     <li>Part 2: Quadratic formula.
+ *         The starting location is at the center of the grid and there is a clear path in all four cardinal directions
+ *         from the starting location to the edge of the grid.
+ *         As such, a quadratic equation, f(x) = a + b * x + c * x^2, can be iterpolated from the first 3 points where
+ *         the end of the grid is reached, i.e., x = rows / 2, 3 * rows / 2, and 5 * rows / 2,
+ *         The points are counted like part 1, from a breadth-first search of the infinite grid.
+ * </ul>
+ */
+public class Day21 implements Solver<Day21.Garden> {
+
+    private static final int[] ROW_STEPS = { -1, 1, 0, 0 };
+    private static final int[] COL_STEPS = { 0, 0, -1, 1 };
+
+    public static void main(String[] args) throws IOException {
+        new Day21().run(args);
+    }
+
+    @Override
+    public Garden parse(Input input) {
+        var grid = Grid.parse(input, (byte) '#');
+        return new Garden(grid, grid.indexOf((byte) 'S'));
+    }
+
+    @Override
+    public long solve(Garden garden, boolean part1) {
+        return part1 ? doPart1(garden.grid, garden.start) : doPart2(garden.grid, garden.start, 26501365);
+    }
+
+    private static long doPart1(Grid grid, int start) {
+        var steps = 64;
+        var offsets = grid.orthogonalOffsets();
+
+        // a garden plot reached in fewer steps can be reached again in an even number of additional steps by stepping
+        // back and forth
+        var count = new long[1];
+        GraphSearch.dense(grid.size()).bfs(
+                (state, edges) -> {
+                    for (var offset : offsets) {
+                        var next = (int) state + offset;
+                        if (grid.get(next) != '#') {
+                            edges.add(next, 1);
+                        }
+                    }
+                },
+                (state, distance) -> {
+                    if (distance % 2 == steps % 2) {
+                        count[0]++;
+                    }
+                    return distance < steps;
+                },
+                start);
+        return count[0];
+    }
+
+    private static long doPart2(Grid grid, int start, long n) {
+        var rows = grid.rows();
+        var cols = grid.cols();
+        var startRow = grid.row(start);
+
+        // the number of plots first reached after each number of steps on the infinite grid, where a state is the
+        // packed (row, col) coordinates of a plot
+        var maxSteps = startRow + 2 * rows;
+        var reached = new long[maxSteps + 1];
+        GraphSearch.hashed(2 * maxSteps * maxSteps).bfs(
+                (state, edges) -> {
+                    var row = row(state);
+                    var col = col(state);
+                    for (var k = 0; k < 4; k++) {
+                        var nextRow = row + ROW_STEPS[k];
+                        var nextCol = col + COL_STEPS[k];
+                        if (grid.get(Math.floorMod(nextRow, rows), Math.floorMod(nextCol, cols)) != '#') {
+                            edges.add(pack(nextRow, nextCol), 1);
+                        }
+                    }
+                },
+                (state, distance) -> {
+                    reached[distance]++;
+                    return distance < maxSteps;
+                },
+                pack(startRow, grid.col(start)));
+
+        var f0 = plots(reached, startRow);
+        var f1 = plots(reached, startRow + rows);
+        var f2 = plots(reached, startRow + 2 * rows);
+
+        n /= rows;
+        var b0 = f0;
+        var b1 = f1 - f0;
+        var b2 = f2 - f1;
+        return b0 + b1 * n + (b2 - b1) * (n * (n - 1) / 2);
+    }
+
+    /**
+     * Returns the number of plots that can be reached in exactly the number of steps, which are the plots first
+     * reached in the same parity of fewer steps.
+     */
+    private static long plots(long[] reached, int steps) {
+        var count = 0L;
+        for (var i = steps % 2; i <= steps; i += 2) {
+            count += reached[i];
+        }
+        return count;
+    }
+
+    private static long pack(int row, int col) {
+        return (long) row << 32 | (col & 0xFFFFFFFFL);
+    }
+
+    private static int row(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int col(long key) {
+        return (int) key;
+    }
+
+    record Garden(Grid grid, int start) {}
+}
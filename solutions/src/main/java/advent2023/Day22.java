@@ -1,7 +1,7 @@
+package advent2023;
+
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -14,19 +14,24 @@ import java.util.Map;
  *     <li>Part 1: 280 too low, 1105 too high
  * </ul>
  */
-public class Day22 {
+public class Day22 implements Solver<Day22.Stack> {
 
     public static void main(String[] args) throws IOException {
-        var part1 = args[0].equals("1");
-        var lines = Files.readAllLines(java.nio.file.Path.of(args[1]));
+        new Day22().run(args);
+    }
 
+    /**
+     * The bricks are parsed and then dropped into their settled positions.
+     */
+    @Override
+    public Stack parse(Input input) {
         var bricks = new ArrayList<Brick>();
         var brickMap = new HashMap<Integer, Brick>();
-        for (var i = 0; i < lines.size(); i++) {
-            var line = lines.get(i);
-            var split = line.split("~");
-            var low = Arrays.stream(split[0].split(",")).map(Integer::parseInt).toList();
-            var high = Arrays.stream(split[1].split(",")).map(Integer::parseInt).toList();
+        for (var i = 0; i < input.lineCount(); i++) {
+            // 1,0,1~1,2,1
+            var reader = input.line(i).reader();
+            var low = List.of(reader.nextInt(), reader.nextInt(), reader.nextInt());
+            var high = List.of(reader.nextInt(), reader.nextInt(), reader.nextInt());
             var brick = new Brick(low, high, i + 1);
             bricks.add(brick);
             brickMap.put(brick.id, brick);
@@ -52,6 +57,13 @@ public class Day22 {
                 }
             }
         }
+        return new Stack(bricks, brickMap);
+    }
+
+    @Override
+    public long solve(Stack stack, boolean part1) {
+        var bricks = stack.bricks;
+        var brickMap = stack.brickMap;
 
         var maxZ = bricks.stream().max(Comparator.comparingInt(x -> x.high[2])).orElseThrow().high[2];
         var space = new int[10][10][maxZ + 2];
@@ -94,11 +106,13 @@ public class Day22 {
                 bricksRemoved++;
             }
         }
+        return bricksRemoved;
+    }
 
-        System.out.println(bricksRemoved);
+    record Stack(List<Brick> bricks, Map<Integer, Brick> brickMap) {
     }
 
-    private static class Brick {
+    static class Brick {
 
         final int id;
         final Integer[] low;
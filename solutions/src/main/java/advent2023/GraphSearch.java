@@ -0,0 +1,280 @@
+package advent2023;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Breadth-first search, Dijkstra's algorithm and A* over states packed into longs, without allocating per state.
+ * <p>
+ * A problem supplies its states as keys, e.g., a grid index and a direction packed into the bits of a long, and a
+ * {@link Neighbors} callback that adds each state one step from a state, with the cost of the step, to an
+ * {@link Edges} sink.
+ * The distance to each reached state is kept in an array indexed by the key when the keys are below a bound known
+ * up front, and in a {@link LongIntMap} otherwise.
+ * The queues are arrays that are kept for the next search, so an engine should be reused for searches of the same
+ * problem.
+ * An engine is not thread-safe.
+ */
+public final class GraphSearch {
+
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final int[] dense;
+    private final LongIntMap hashed;
+    private final BucketQueue buckets = new BucketQueue();
+    private final Edges bfsEdges = this::addBfsEdge;
+    private final Edges pathEdges = this::addPathEdge;
+    private long[] fifo = new long[64];
+    private int fifoTail;
+    private int fromDistance;
+    private LongToIntFunction heuristic;
+
+    private GraphSearch(int[] dense, LongIntMap hashed) {
+        this.dense = dense;
+        this.hashed = hashed;
+    }
+
+    /**
+     * Returns an engine for keys from 0 (inclusive) to the bound (exclusive), whose distances are kept in an array.
+     */
+    public static GraphSearch dense(int keyBound) {
+        return new GraphSearch(new int[keyBound], null);
+    }
+
+    /**
+     * Returns an engine for any keys, whose distances are kept in a hash map sized for the expected number of states
+     * reached by a search.
+     */
+    public static GraphSearch hashed(int expectedStates) {
+        return new GraphSearch(null, new LongIntMap(expectedStates));
+    }
+
+    /**
+     * Visits the states reachable from the starts in order of the number of steps from the nearest start.
+     * The cost of each step is ignored.
+     * A state is only expanded if the visitor returns true.
+     */
+    public void bfs(Neighbors neighbors, Visitor visitor, long... starts) {
+        reset();
+        fifoTail = 0;
+        for (var start : starts) {
+            if (distance(start) == -1) {
+                setDistance(start, 0);
+                enqueue(start);
+            }
+        }
+
+        for (var head = 0; head < fifoTail; head++) {
+            var state = fifo[head];
+            var distance = distance(state);
+            if (visitor.visit(state, distance)) {
+                fromDistance = distance + 1;
+                neighbors.expand(state, bfsEdges);
+            }
+        }
+    }
+
+    /**
+     * Returns the lowest cost of a path from any start to a target, or -1 if no target is reachable.
+     * The cost of every step must not be negative.
+     */
+    public int dijkstra(Neighbors neighbors, LongPredicate isTarget, long... starts) {
+        return aStar(neighbors, state -> 0, isTarget, starts);
+    }
+
+    /**
+     * Returns the lowest cost of a path from any start to a target, or -1 if no target is reachable, searching the
+     * states in order of their cost from the start plus the heuristic's estimate of their cost to a target.
+     * The heuristic must be consistent: it is 0 at the targets and never falls by more than the cost of a step.
+     */
+    public int aStar(Neighbors neighbors, LongToIntFunction heuristic, LongPredicate isTarget, long... starts) {
+        reset();
+        buckets.clear();
+        this.heuristic = heuristic;
+        for (var start : starts) {
+            setDistance(start, 0);
+            buckets.push(heuristic.applyAsInt(start), start);
+        }
+
+        while (!buckets.isEmpty()) {
+            var priority = buckets.minPriority();
+            var state = buckets.pop();
+            var distance = distance(state);
+            if (distance + heuristic.applyAsInt(state) != priority) {
+                // a lower cost was found after the state was queued
+                continue;
+            }
+            if (isTarget.test(state)) {
+                return distance;
+            }
+            fromDistance = distance;
+            neighbors.expand(state, pathEdges);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the distance to the state found by the last search, or -1 if it was not reached.
+     * The distance of a state that was reached but not expanded by a Dijkstra or A* search may not be the lowest.
+     */
+    public int distance(long state) {
+        var distance = dense != null ? dense[(int) state] : hashed.get(state, UNREACHED);
+        return distance == UNREACHED ? -1 : distance;
+    }
+
+    private void addBfsEdge(long state, int cost) {
+        if (distance(state) == -1) {
+            setDistance(state, fromDistance);
+            enqueue(state);
+        }
+    }
+
+    private void addPathEdge(long state, int cost) {
+        var distance = fromDistance + cost;
+        var current = distance(state);
+        if (current == -1 || distance < current) {
+            setDistance(state, distance);
+            buckets.push(distance + heuristic.applyAsInt(state), state);
+        }
+    }
+
+    private void setDistance(long state, int distance) {
+        if (dense != null) {
+            dense[(int) state] = distance;
+        } else {
+            hashed.put(state, distance);
+        }
+    }
+
+    private void enqueue(long state) {
+        if (fifoTail == fifo.length) {
+            fifo = Arrays.copyOf(fifo, fifoTail * 2);
+        }
+        fifo[fifoTail++] = state;
+    }
+
+    private void reset() {
+        if (dense != null) {
+            Arrays.fill(dense, UNREACHED);
+        } else {
+            hashed.clear();
+        }
+    }
+
+    /**
+     * Adds the states one step from a state to the edges.
+     */
+    @FunctionalInterface
+    public interface Neighbors {
+
+        void expand(long state, Edges edges);
+    }
+
+    @FunctionalInterface
+    public interface Edges {
+
+        void add(long state, int cost);
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Visits a state reached in the number of steps, and returns true if the states one step from it should be
+         * searched.
+         */
+        boolean visit(long state, int distance);
+    }
+
+    /**
+     * A priority queue of states for priorities that never fall below the lowest priority in the queue, as in
+     * Dijkstra's algorithm and A* with a consistent heuristic.
+     * <p>
+     * There is a bucket of states for each priority from the lowest to the highest in the queue, in a circular array
+     * indexed by the priority.
+     * The array doubles when the range of priorities does not fit, and the buckets are kept when the queue is cleared,
+     * so a queue that has grown does not allocate.
+     */
+    private static final class BucketQueue {
+
+        private long[][] buckets = new long[64][];
+        private int[] sizes = new int[64];
+        private int mask = 63;
+        private int lowest;
+        private int highest;
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void clear() {
+            Arrays.fill(sizes, 0);
+            size = 0;
+        }
+
+        void push(int priority, long state) {
+            if (size == 0) {
+                lowest = priority;
+                highest = priority;
+            } else {
+                // the buckets are moved by their priorities in the current range, so grow before widening it
+                var newLowest = Math.min(lowest, priority);
+                var newHighest = Math.max(highest, priority);
+                while (newHighest - newLowest > mask) {
+                    grow();
+                }
+                lowest = newLowest;
+                highest = newHighest;
+            }
+
+            var slot = priority & mask;
+            var bucket = buckets[slot];
+            if (bucket == null) {
+                bucket = buckets[slot] = new long[16];
+            } else if (sizes[slot] == bucket.length) {
+                bucket = buckets[slot] = Arrays.copyOf(bucket, sizes[slot] * 2);
+            }
+            bucket[sizes[slot]++] = state;
+            size++;
+        }
+
+        /**
+         * Returns the lowest priority in the queue, which must not be empty.
+         */
+        int minPriority() {
+            while (sizes[lowest & mask] == 0) {
+                lowest++;
+            }
+            return lowest;
+        }
+
+        /**
+         * Removes a state with the lowest priority, which must be found with {@link #minPriority()} first.
+         */
+        long pop() {
+            var slot = lowest & mask;
+            size--;
+            return buckets[slot][--sizes[slot]];
+        }
+
+        /**
+         * Doubles the number of buckets, moving each bucket to the slot of its priority.
+         */
+        private void grow() {
+            var capacity = buckets.length * 2;
+            var newBuckets = new long[capacity][];
+            var newSizes = new int[capacity];
+            for (var slot = 0; slot < buckets.length; slot++) {
+                // the priority that maps to the slot, in the range from the lowest priority
+                var priority = lowest + ((slot - lowest) & mask);
+                newBuckets[priority & (capacity - 1)] = buckets[slot];
+                newSizes[priority & (capacity - 1)] = sizes[slot];
+            }
+            buckets = newBuckets;
+            sizes = newSizes;
+            mask = capacity - 1;
+        }
+    }
+}
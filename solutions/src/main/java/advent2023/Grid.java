@@ -0,0 +1,177 @@
+package advent2023;
+
+import java.util.Arrays;
+
+/**
+ * A rectangular grid of bytes stored in a single flat array, row by row.
+ * <p>
+ * The grid is surrounded by a one cell border filled with a sentinel byte, so a step from any cell in the grid to one
+ * of its 8 neighbors lands on a valid index without a bounds check.
+ * Callers choose a sentinel that their inner loop already handles, e.g., '.' for an empty cell or '#' for a wall, or
+ * {@link #BORDER} to detect leaving the grid.
+ * <p>
+ * Cells are addressed by a single index.
+ * Moving to a neighbor is adding one of the offsets {@link #up()}, {@link #down()}, {@link #LEFT} or {@link #RIGHT}.
+ * A row is iterated from {@link #rowStart(int)} to {@link #rowEnd(int)} with a step of 1.
+ * A column is iterated from {@link #colStart(int)} to {@link #colEnd(int)} with a step of {@link #stride()}.
+ */
+public final class Grid {
+
+    /**
+     * A sentinel byte that does not appear in puzzle inputs.
+     */
+    public static final byte BORDER = 0;
+
+    public static final int LEFT = -1;
+    public static final int RIGHT = 1;
+
+    private final byte[] cells;
+    private final int rows;
+    private final int cols;
+    private final int stride;
+    private final int[] orthogonalOffsets;
+    private final int[] neighborOffsets;
+
+    private Grid(byte[] cells, int rows, int cols) {
+        this.cells = cells;
+        this.rows = rows;
+        this.cols = cols;
+        this.stride = cols + 2;
+        orthogonalOffsets = new int[] { -stride, stride, LEFT, RIGHT };
+        neighborOffsets = new int[] { -stride - 1, -stride, -stride + 1, LEFT, RIGHT, stride - 1, stride, stride + 1 };
+    }
+
+    public static Grid parse(Input input, byte border) {
+        return parse(input, 0, input.lineCount(), border);
+    }
+
+    /**
+     * Creates a grid from the lines {@code fromLine} (inclusive) to {@code toLine} (exclusive) of the input.
+     * All the lines are expected to be the same length.
+     */
+    public static Grid parse(Input input, int fromLine, int toLine, byte border) {
+        var rows = toLine - fromLine;
+        var cols = input.line(fromLine).length();
+        var grid = new Grid(new byte[(rows + 2) * (cols + 2)], rows, cols);
+        Arrays.fill(grid.cells, border);
+        for (var i = 0; i < rows; i++) {
+            var line = input.line(fromLine + i);
+            var index = grid.rowStart(i);
+            for (var j = 0; j < cols; j++) {
+                grid.cells[index + j] = line.byteAt(j);
+            }
+        }
+        return grid;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    /**
+     * Returns the number of indexes, including the border, so every index is less than the size.
+     */
+    public int size() {
+        return cells.length;
+    }
+
+    /**
+     * Returns the distance between the indexes of vertically adjacent cells.
+     */
+    public int stride() {
+        return stride;
+    }
+
+    public int up() {
+        return -stride;
+    }
+
+    public int down() {
+        return stride;
+    }
+
+    /**
+     * Returns the offsets to the 4 orthogonal neighbors of a cell: up, down, left, and right.
+     * The array is shared and must not be modified.
+     */
+    public int[] orthogonalOffsets() {
+        return orthogonalOffsets;
+    }
+
+    /**
+     * Returns the offsets to the 8 neighbors of a cell, including the diagonals.
+     * The array is shared and must not be modified.
+     */
+    public int[] neighborOffsets() {
+        return neighborOffsets;
+    }
+
+    public int index(int row, int col) {
+        return (row + 1) * stride + col + 1;
+    }
+
+    public int row(int index) {
+        return index / stride - 1;
+    }
+
+    public int col(int index) {
+        return index % stride - 1;
+    }
+
+    public int rowStart(int row) {
+        return index(row, 0);
+    }
+
+    public int rowEnd(int row) {
+        return index(row, cols);
+    }
+
+    public int colStart(int col) {
+        return index(0, col);
+    }
+
+    public int colEnd(int col) {
+        return index(rows, col);
+    }
+
+    public byte get(int index) {
+        return cells[index];
+    }
+
+    public byte get(int row, int col) {
+        return cells[index(row, col)];
+    }
+
+    public void set(int index, byte value) {
+        cells[index] = value;
+    }
+
+    /**
+     * Returns the index of the first cell with the value, or -1 if no cell has the value.
+     */
+    public int indexOf(byte value) {
+        for (var i = 0; i < rows; i++) {
+            for (var index = rowStart(i); index < rowEnd(i); index++) {
+                if (cells[index] == value) {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public Grid copy() {
+        return new Grid(Arrays.copyOf(cells, cells.length), rows, cols);
+    }
+
+    /**
+     * Returns true if the grids are the same size and every cell, including the border, is the same.
+     */
+    public boolean sameCells(Grid grid) {
+        return rows == grid.rows && cols == grid.cols && Arrays.equals(cells, grid.cells);
+    }
+}
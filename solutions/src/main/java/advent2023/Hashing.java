@@ -0,0 +1,29 @@
+package advent2023;
+
+/**
+ * Hash functions and sizing shared by the open addressing collections.
+ */
+final class Hashing {
+
+    private static final long GOLDEN_RATIO_64 = 0x9E3779B97F4A7C15L;
+
+    private Hashing() {
+    }
+
+    /**
+     * Returns a power of 2 table capacity that holds the expected number of keys at most half full.
+     */
+    static int capacity(int expectedSize) {
+        var capacity = Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1;
+        return Math.max(capacity, 4);
+    }
+
+    /**
+     * Spreads the bits of the key, so packed coordinates that differ only in the low bits of a row or column do not
+     * fall into neighboring slots.
+     */
+    static int hash(long key) {
+        var h = key * GOLDEN_RATIO_64;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,175 @@
+package advent2023;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * A puzzle input file as raw bytes.
+ * <p>
+ * Files are memory-mapped with a {@link FileChannel}, so the contents are never decoded to strings or copied onto the
+ * heap.
+ * A mapping is limited to 2 GB, so larger files are mapped as a sequence of 1 GB segments.
+ * <p>
+ * Lines are separated by '\n' with an optional preceding '\r', which is not part of the line.
+ * The offsets of the lines are found with a single scan of the input the first time a line is requested.
+ * <p>
+ * The segments are little-endian, so a long read from the input holds its first byte in its lowest bits.
+ */
+public final class Input {
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final ByteBuffer[] segments;
+    private final ByteBuffer first;
+    private final long length;
+    private long[] lineStarts;
+    private int lineCount;
+
+    private Input(ByteBuffer[] segments, long length) {
+        this.segments = segments;
+        this.first = segments[0];
+        this.length = length;
+    }
+
+    /**
+     * Memory-maps the file.
+     */
+    public static Input map(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var length = channel.size();
+            var segments = new ByteBuffer[(int) Math.max(1, (length + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT)];
+            for (var i = 0; i < segments.length; i++) {
+                var position = (long) i << SEGMENT_SHIFT;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(SEGMENT_SIZE, length - position)).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new Input(segments, length);
+        }
+    }
+
+    public static Input of(byte[] bytes) {
+        return new Input(new ByteBuffer[] { ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN) }, bytes.length);
+    }
+
+    public static Input of(String text) {
+        return of(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public byte byteAt(long index) {
+        if (index < SEGMENT_SIZE) {
+            return first.get((int) index);
+        }
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+    }
+
+    /**
+     * Returns the 8 bytes starting at the index, with the byte at the index in the lowest 8 bits, and 0 for the bytes
+     * past the end of the input.
+     */
+    long longAt(long index) {
+        var offset = (int) (index & SEGMENT_MASK);
+        if (index + Long.BYTES <= length && offset <= SEGMENT_SIZE - Long.BYTES) {
+            return segments[(int) (index >>> SEGMENT_SHIFT)].getLong(offset);
+        }
+        // crosses the end of a segment or of the input
+        var value = 0L;
+        for (var i = Math.min(Long.BYTES, length - index) - 1; i >= 0; i--) {
+            value = value << 8 | (byteAt(index + i) & 0xff);
+        }
+        return value;
+    }
+
+    /**
+     * Adds all the bytes of the input to the digest.
+     */
+    void digest(MessageDigest digest) {
+        for (var segment : segments) {
+            digest.update(segment.duplicate());
+        }
+    }
+
+    /**
+     * Returns the number of lines.
+     * A trailing newline at the end of the input does not start another line.
+     */
+    public int lineCount() {
+        if (lineStarts == null) {
+            indexLines();
+        }
+        return lineCount;
+    }
+
+    /**
+     * Returns the line, without the line separator.
+     */
+    public ByteSlice line(int index) {
+        if (index < 0 || index >= lineCount()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        var start = lineStarts[index];
+        var end = lineStarts[index + 1] - 1; // the '\n', or the end of the input for the last line
+        if (end > start && byteAt(end - 1) == '\r') {
+            end--;
+        }
+        return new ByteSlice(this, start, (int) (end - start));
+    }
+
+    /**
+     * Adds each line that starts at or after {@code from} and before {@code to} to the fold, without indexing the
+     * lines, where {@code from} is the start of a line.
+     */
+    void foldLines(long from, long to, LineFold fold) {
+        var start = from;
+        while (start < to) {
+            var newline = indexOf((byte) '\n', start);
+            var end = newline;
+            if (end > start && byteAt(end - 1) == '\r') {
+                end--;
+            }
+            fold.add(new ByteSlice(this, start, (int) (end - start)));
+            start = newline + 1;
+        }
+    }
+
+    private void indexLines() {
+        var starts = new long[1024];
+        var count = 0;
+        var position = 0L;
+        while (position < length) {
+            if (count + 1 == starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+            }
+            starts[count++] = position;
+            position = indexOf((byte) '\n', position) + 1;
+        }
+        starts[count] = position;
+        lineStarts = starts;
+        lineCount = count;
+    }
+
+    /**
+     * Returns the index of the next occurrence of the byte at or after {@code from}, or the length of the input if it
+     * does not occur.
+     */
+    long indexOf(byte b, long from) {
+        for (var i = from; i < length; i++) {
+            if (byteAt(i) == b) {
+                return i;
+            }
+        }
+        return length;
+    }
+}
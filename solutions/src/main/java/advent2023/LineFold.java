@@ -0,0 +1,55 @@
+package advent2023;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Folds the lines of an input, one at a time, into the answer of a part.
+ * <p>
+ * A fold must not keep a reference to a line after {@link #add(ByteSlice)} returns, since the line may be a view of a
+ * buffer that is reused for the next line.
+ */
+public interface LineFold {
+
+    void add(ByteSlice line);
+
+    long answer();
+
+    /**
+     * Adds every line of the input.
+     */
+    default LineFold addAll(Input input) {
+        for (var i = 0; i < input.lineCount(); i++) {
+            add(input.line(i));
+        }
+        return this;
+    }
+
+    /**
+     * Adds each line of the input that starts at or after {@code from} and before {@code to}, where {@code from} is the
+     * start of a line.
+     * A fold may scan the bytes of the range itself rather than have each line sliced for it.
+     */
+    default void addLines(Input input, long from, long to) {
+        input.foldLines(from, to, this);
+    }
+
+    /**
+     * Returns a fold that sums the value of each line.
+     */
+    static LineFold sum(ToLongFunction<ByteSlice> value) {
+        return new LineFold() {
+
+            private long sum;
+
+            @Override
+            public void add(ByteSlice line) {
+                sum += value.applyAsLong(line);
+            }
+
+            @Override
+            public long answer() {
+                return sum;
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package advent2023;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads the lines of an input one at a time from a channel, e.g., a pipe, without holding the whole input in memory.
+ * <p>
+ * The bytes are read into a single buffer, which only grows if a line is longer than the buffer, so the memory used
+ * depends on the longest line and not on the size of the input.
+ * Lines are separated like in {@link Input}.
+ * The slice returned by {@link #next()} is a view of the buffer, so it is only valid until the next call.
+ */
+public final class LineStream implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final ReadableByteChannel channel;
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private Input view = Input.of(buffer);
+    private int start;
+    private int end;
+    private boolean eof;
+    private long bytesRead;
+    private long lineCount;
+
+    public LineStream(ReadableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public static LineStream open(Path path) throws IOException {
+        return new LineStream(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    public static LineStream stdin() {
+        return new LineStream(Channels.newChannel(System.in));
+    }
+
+    /**
+     * Returns the next line, without the line separator, or null at the end of the input.
+     * A trailing newline at the end of the input does not start another line.
+     */
+    public ByteSlice next() throws IOException {
+        var scanned = 0; // the bytes after the start of the line without a newline, which fill() may move
+        while (true) {
+            for (var i = start + scanned; i < end; i++) {
+                if (buffer[i] == '\n') {
+                    return line(i, i + 1);
+                }
+            }
+            if (eof) {
+                return start == end ? null : line(end, end);
+            }
+            scanned = end - start;
+            fill();
+        }
+    }
+
+    public long bytesRead() {
+        return bytesRead;
+    }
+
+    public long lineCount() {
+        return lineCount;
+    }
+
+    private ByteSlice line(int lineEnd, int next) {
+        var lineStart = start;
+        if (lineEnd > lineStart && buffer[lineEnd - 1] == '\r') {
+            lineEnd--;
+        }
+        start = next;
+        lineCount++;
+        return new ByteSlice(view, lineStart, lineEnd - lineStart);
+    }
+
+    /**
+     * Reads more bytes after the partial line at the start of the buffer, compacting or growing the buffer first if
+     * it is full.
+     */
+    private void fill() throws IOException {
+        if (end == buffer.length) {
+            if (start == 0) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                view = Input.of(buffer);
+            } else {
+                System.arraycopy(buffer, start, buffer, 0, end - start);
+                end -= start;
+                start = 0;
+            }
+        }
+        var read = channel.read(ByteBuffer.wrap(buffer, end, buffer.length - end));
+        if (read == -1) {
+            eof = true;
+        } else {
+            end += read;
+            bytesRead += read;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,95 @@
+package advent2023;
+
+import java.util.Arrays;
+
+/**
+ * A set of longs, e.g., coordinates packed into a long, without boxing.
+ * <p>
+ * Keys are stored in a single array with open addressing and linear probing.
+ * The array is kept at most half full, so a probe sequence is short.
+ * 0 marks an empty slot, so the key 0 is tracked separately.
+ */
+public final class LongHashSet {
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        keys = new long[Hashing.capacity(expectedSize)];
+        mask = keys.length - 1;
+    }
+
+    /**
+     * Adds the key and returns true if it was not already in the set.
+     */
+    public boolean add(long key) {
+        if (key == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        var slot = Hashing.hash(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size > keys.length >>> 1) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean contains(long key) {
+        if (key == 0) {
+            return containsZero;
+        }
+        var slot = Hashing.hash(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the keys, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+        containsZero = false;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        keys = new long[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (var key : oldKeys) {
+            if (key != 0) {
+                var slot = Hashing.hash(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package advent2023;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Sums the folds of the lines of an input in parallel on a fork-join pool.
+ * <p>
+ * The bytes of the input are split in half at a line boundary until each range is at most a chunk, which is a small
+ * fraction of the input for each thread so that idle threads can steal the work of slow ones.
+ * Each range is folded by its own fold, so the folds share nothing, and the answers of the ranges are summed.
+ * The lines are found by each range as it is folded, so the input is never indexed as a whole.
+ */
+public final class ParallelFold {
+
+    private static final long MIN_CHUNK_BYTES = 1 << 16;
+    private static final int CHUNKS_PER_THREAD = 8;
+
+    private ParallelFold() {
+    }
+
+    /**
+     * Returns the sum of the answers of folds of the lines of the input, where each fold is a new fold from the
+     * supplier.
+     */
+    public static long sum(Input input, Supplier<LineFold> folds, ForkJoinPool pool) {
+        var chunkBytes = Math.max(MIN_CHUNK_BYTES, input.length() / ((long) pool.getParallelism() * CHUNKS_PER_THREAD));
+        return pool.invoke(new Range(input, 0, input.length(), chunkBytes, folds));
+    }
+
+    private static final class Range extends RecursiveTask<Long> {
+
+        private final Input input;
+        private final long from;
+        private final long to;
+        private final long chunkBytes;
+        private final Supplier<LineFold> folds;
+
+        Range(Input input, long from, long to, long chunkBytes, Supplier<LineFold> folds) {
+            this.input = input;
+            this.from = from;
+            this.to = to;
+            this.chunkBytes = chunkBytes;
+            this.folds = folds;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from > chunkBytes) {
+                // the first line that starts after the middle
+                var middle = input.indexOf((byte) '\n', from + (to - from) / 2) + 1;
+                if (middle < to) {
+                    var left = new Range(input, from, middle, chunkBytes, folds);
+                    left.fork();
+                    var right = new Range(input, middle, to, chunkBytes, folds).compute();
+                    return left.join() + right;
+                }
+            }
+
+            var fold = folds.get();
+            fold.addLines(input, from, to);
+            return fold.answer();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package advent2023;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs any subset of days and parts concurrently in a single JVM and prints a timing table.
+ * <p>
+ * Usage: {@code ParallelRunner [days...] [--parts=1,2] [--input=input] [--parallelism=<cores>] [--csv=file]
+ * [--json=file]}
+ * <ul>
+ *     <li>days: day numbers or ranges, e.g., "1,3,5-7" (default: all days)
+ *     <li>--parts: the parts to run (default: 1,2)
+ *     <li>--input: the directory with the dayNN input files (default: input)
+ *     <li>--parallelism: the number of jobs run at the same time (default: the number of cores)
+ *     <li>--csv, --json: files to write the metrics of each phase to, see {@link Reports}
+ * </ul>
+ * Each day has a parse job, which reads and parses the input, and a solve job for each part, which starts when the
+ * parse job finishes and shares its parsed input.
+ * All the jobs are scheduled at once on a fork-join pool, so the run takes about as long as the slowest day when
+ * there are enough cores.
+ * The wall time and the CPU time of each job are reported, along with the wall time of the whole run.
+ * Jobs are measured with a {@link Probe}, but since they overlap, only their wall times, CPU times and allocations are
+ * their own.
+ */
+public class ParallelRunner {
+
+    public static void main(String[] args) throws IOException {
+        var days = new ArrayList<Integer>();
+        var parts = List.of(1, 2);
+        var inputDir = Path.of("input");
+        var parallelism = Runtime.getRuntime().availableProcessors();
+        Path csv = null;
+        Path json = null;
+
+        for (var arg : args) {
+            if (arg.startsWith("--parts=")) {
+                parts = Runner.parseNumbers(arg.substring("--parts=".length()));
+            } else if (arg.startsWith("--input=")) {
+                inputDir = Path.of(arg.substring("--input=".length()));
+            } else if (arg.startsWith("--parallelism=")) {
+                parallelism = Integer.parseInt(arg.substring("--parallelism=".length()));
+            } else if (arg.startsWith("--csv=")) {
+                csv = Path.of(arg.substring("--csv=".length()));
+            } else if (arg.startsWith("--json=")) {
+                json = Path.of(arg.substring("--json=".length()));
+            } else {
+                days.addAll(Runner.parseNumbers(arg));
+            }
+        }
+        if (days.isEmpty()) {
+            for (var day = 1; day <= Solvers.days(); day++) {
+                days.add(day);
+            }
+        }
+
+        var start = System.nanoTime();
+        var results = run(days, parts, inputDir, parallelism);
+        var wallNanos = System.nanoTime() - start;
+        print(results, wallNanos, parallelism);
+        if (csv != null) {
+            Reports.writeCsv(results, csv);
+        }
+        if (json != null) {
+            Reports.writeJson(results, json);
+        }
+    }
+
+    /**
+     * Runs the days and parts on a pool with the parallelism and waits for all of them to finish.
+     * The results are in the order of the days and parts.
+     */
+    public static List<Runner.Result> run(List<Integer> days, List<Integer> parts, Path inputDir, int parallelism) {
+        var pool = new ForkJoinPool(parallelism);
+        try {
+            var futures = new ArrayList<CompletableFuture<Runner.Result>>();
+            for (var day : days) {
+                var solver = Solvers.get(day);
+                var path = inputDir.resolve(String.format("day%02d", day));
+                var parsed = CompletableFuture.supplyAsync(() -> parse(solver, day, path), pool);
+                for (var part : parts) {
+                    futures.add(parsed.thenApplyAsync(parse -> solve(solver, day, part, parse), pool));
+                }
+            }
+
+            var results = new ArrayList<Runner.Result>();
+            for (var future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Parse parse(Solver<Object> solver, int day, Path path) {
+        var readProbe = Probe.start(day, 0, Phase.READ);
+        Input file;
+        try {
+            file = Input.map(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        file.lineCount();
+        var read = readProbe.stop();
+
+        var parseProbe = Probe.start(day, 0, Phase.PARSE);
+        var input = solver.parse(file);
+        return new Parse(input, read, parseProbe.stop());
+    }
+
+    private static Runner.Result solve(Solver<Object> solver, int day, int part, Parse parse) {
+        var solveProbe = Probe.start(day, part, Phase.SOLVE);
+        var answer = solver.solve(parse.input, part == 1);
+        return new Runner.Result(day, part, answer, parse.read, parse.parse, solveProbe.stop());
+    }
+
+    private static void print(List<Runner.Result> results, long wallNanos, int parallelism) {
+        System.out.printf("%-4s %-4s %20s %12s %12s %12s %12s %12s%n", "Day", "Part", "Answer", "Read (ms)",
+                "Parse (ms)", "Parse CPU", "Solve (ms)", "Solve CPU");
+        var sequentialNanos = 0L;
+        var previousDay = 0;
+        for (var result : results) {
+            var read = result.read();
+            var parse = result.parse();
+            var solve = result.solve();
+            System.out.printf("%-4d %-4d %20d %12.3f %12.3f %12.3f %12.3f %12.3f%n", result.day(), result.part(),
+                    result.answer(), Runner.millis(read.wallNanos()), Runner.millis(parse.wallNanos()),
+                    Runner.millis(read.cpuNanos() + parse.cpuNanos()), Runner.millis(solve.wallNanos()),
+                    Runner.millis(solve.cpuNanos()));
+            if (result.day() != previousDay) {
+                sequentialNanos += read.wallNanos() + parse.wallNanos();
+                previousDay = result.day();
+            }
+            sequentialNanos += solve.wallNanos();
+        }
+        System.out.printf("Wall: %.3f ms, sum of jobs: %.3f ms, parallelism: %d%n", Runner.millis(wallNanos),
+                Runner.millis(sequentialNanos), parallelism);
+    }
+
+    private record Parse(Object input, PhaseMetrics read, PhaseMetrics parse) {
+    }
+}
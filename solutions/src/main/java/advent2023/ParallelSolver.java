@@ -0,0 +1,25 @@
+package advent2023;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A streaming solver whose lines can be split into ranges that are folded separately and summed, see
+ * {@link ParallelFold}.
+ * <ul>
+ *     <li>When the answer is the sum of the answers of the lines, any split of the lines can be folded on its own.
+ *     <li>When a line also depends on the lines around it, e.g., the rows of a schematic in Day 3, the fold of a range
+ *         overrides {@link LineFold#addLines} to read the lines on either side of the range as halo lines, which it
+ *         does not add to its answer, so the answers of the ranges still add up.
+ *     <li>When a part depends on every line before it, e.g., the copies of the cards in Day 4, the solver overrides
+ *         {@link #solveParallel} to fold that part on a single thread.
+ * </ul>
+ */
+public interface ParallelSolver extends StreamingSolver {
+
+    /**
+     * Solves the part by folding the lines of the unparsed input in parallel on the pool.
+     */
+    default long solveParallel(Input input, boolean part1, ForkJoinPool pool) {
+        return ParallelFold.sum(input, () -> fold(part1), pool);
+    }
+}
@@ -0,0 +1,26 @@
+package advent2023;
+
+/**
+ * The phases of running a day's solver.
+ */
+public enum Phase {
+
+    /**
+     * Mapping the input file and indexing its lines.
+     */
+    READ,
+
+    /**
+     * Converting the input into the solver's parsed input.
+     */
+    PARSE,
+
+    /**
+     * Computing the answer for a part from the parsed input.
+     */
+    SOLVE;
+
+    public String label() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,40 @@
+package advent2023;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JFR event for a phase of a day's solver, recorded when the JVM is started with
+ * {@code -XX:StartFlightRecording}.
+ */
+@Name("advent2023.Phase")
+@Label("Puzzle Phase")
+@Category("Advent of Code")
+@Description("A read, parse or solve phase of a day's solver")
+@StackTrace(false)
+class PhaseEvent extends Event {
+
+    @Label("Day")
+    int day;
+
+    @Label("Part")
+    @Description("The part solved, or 0 for the read and parse phases, which are shared by both parts")
+    int part;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("CPU Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long cpuTime;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocated;
+}
@@ -0,0 +1,16 @@
+package advent2023;
+
+/**
+ * The cost of a phase, measured by a {@link Probe}.
+ *
+ * @param wallNanos the elapsed time
+ * @param cpuNanos the CPU time of the thread that ran the phase
+ * @param allocatedBytes the bytes allocated by the thread that ran the phase
+ * @param gcCount the number of garbage collections in the JVM during the phase
+ * @param gcMillis the time spent in garbage collections in the JVM during the phase
+ * @param peakHeapBytes the sum of the peak usage of each heap memory pool during the phase, an upper bound on the peak
+ *                      heap usage
+ */
+public record PhaseMetrics(
+        long wallNanos, long cpuNanos, long allocatedBytes, long gcCount, long gcMillis, long peakHeapBytes) {
+}
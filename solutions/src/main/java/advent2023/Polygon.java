@@ -0,0 +1,149 @@
+package advent2023;
+
+import java.math.BigInteger;
+
+/**
+ * The area and boundary of a lattice polygon whose vertices are added one at a time, which only keeps the first and
+ * the last vertex rather than all the vertices.
+ * <p>
+ * Twice the area is the shoelace sum of the cross products of consecutive vertices.
+ * Each vertex is taken relative to the first vertex, so the products stay small and the edge that closes the polygon
+ * adds nothing to the sum.
+ * The sum is kept in a long until a product or a sum overflows, and in a {@link BigInteger} from then on.
+ * The boundary is always kept in a long, and an {@link ArithmeticException} is thrown if it overflows.
+ * The counts of lattice points are computed from the wide area when there is one, so a count that fits in a long is
+ * returned even if twice the area does not.
+ * <p>
+ * The number of lattice points inside the polygon follows from Pick's theorem, A = I + B/2 - 1, where B is the number
+ * of lattice points on the boundary.
+ */
+public final class Polygon {
+
+    private static final BigInteger TWO = BigInteger.valueOf(2);
+
+    private long firstRow;
+    private long firstCol;
+    private long lastRow;
+    private long lastCol;
+    private int vertices;
+    private long boundary;
+    private long twiceArea;
+    private BigInteger wideTwiceArea;
+
+    /**
+     * Adds the next vertex of the polygon, which is joined to the last vertex by an edge.
+     * The polygon is closed by an edge from the last vertex back to the first, so the first vertex does not need to be
+     * added again.
+     */
+    public void add(long row, long col) {
+        if (vertices++ == 0) {
+            firstRow = row;
+            firstCol = col;
+        } else {
+            boundary = Math.addExact(boundary, edgePoints(lastRow, lastCol, row, col));
+            cross(row, col);
+        }
+        lastRow = row;
+        lastCol = col;
+    }
+
+    /**
+     * Returns the number of lattice points on the boundary, including the closing edge.
+     */
+    public long boundaryPoints() {
+        return vertices == 0 ? 0 : Math.addExact(boundary, edgePoints(lastRow, lastCol, firstRow, firstCol));
+    }
+
+    /**
+     * Returns twice the area, which is always a whole number.
+     */
+    public BigInteger exactTwiceArea() {
+        return wideTwiceArea != null ? wideTwiceArea.abs() : BigInteger.valueOf(twiceArea).abs();
+    }
+
+    /**
+     * Returns twice the area, throwing an {@link ArithmeticException} if it does not fit in a long.
+     */
+    public long twiceArea() {
+        return wideTwiceArea != null ? wideTwiceArea.abs().longValueExact() : Math.absExact(twiceArea);
+    }
+
+    /**
+     * Returns the number of lattice points strictly inside the polygon, throwing an {@link ArithmeticException} if it
+     * does not fit in a long.
+     */
+    public long interiorPoints() {
+        // 2I = 2A - B + 2
+        return halfSum(-boundaryPoints());
+    }
+
+    /**
+     * Returns the number of lattice points inside or on the boundary of the polygon, throwing an
+     * {@link ArithmeticException} if it does not fit in a long.
+     */
+    public long latticePoints() {
+        // I + B = (2A + B + 2) / 2
+        return halfSum(boundaryPoints());
+    }
+
+    /**
+     * Returns (2A + boundary + 2) / 2, which is summed in a {@link BigInteger} if the sum does not fit in a long.
+     */
+    private long halfSum(long boundary) {
+        if (wideTwiceArea == null) {
+            try {
+                return Math.addExact(Math.absExact(twiceArea), Math.addExact(boundary, 2)) / 2;
+            } catch (ArithmeticException e) {
+                // summed below
+            }
+        }
+        return exactTwiceArea().add(BigInteger.valueOf(boundary)).add(TWO).shiftRight(1).longValueExact();
+    }
+
+    /**
+     * Adds the cross product of the last vertex and the next vertex, both relative to the first vertex.
+     */
+    private void cross(long row, long col) {
+        if (wideTwiceArea == null) {
+            try {
+                var row1 = Math.subtractExact(lastRow, firstRow);
+                var col1 = Math.subtractExact(lastCol, firstCol);
+                var row2 = Math.subtractExact(row, firstRow);
+                var col2 = Math.subtractExact(col, firstCol);
+                var cross = Math.subtractExact(Math.multiplyExact(col1, row2), Math.multiplyExact(row1, col2));
+                twiceArea = Math.addExact(twiceArea, cross);
+                return;
+            } catch (ArithmeticException e) {
+                wideTwiceArea = BigInteger.valueOf(twiceArea);
+            }
+        }
+        var firstRowWide = BigInteger.valueOf(firstRow);
+        var firstColWide = BigInteger.valueOf(firstCol);
+        var row1 = BigInteger.valueOf(lastRow).subtract(firstRowWide);
+        var col1 = BigInteger.valueOf(lastCol).subtract(firstColWide);
+        var row2 = BigInteger.valueOf(row).subtract(firstRowWide);
+        var col2 = BigInteger.valueOf(col).subtract(firstColWide);
+        wideTwiceArea = wideTwiceArea.add(col1.multiply(row2).subtract(row1.multiply(col2)));
+    }
+
+    /**
+     * Returns the number of lattice points on an edge, counting one end but not the other.
+     */
+    private static long edgePoints(long row1, long col1, long row2, long col2) {
+        var rows = Math.absExact(Math.subtractExact(row2, row1));
+        var cols = Math.absExact(Math.subtractExact(col2, col1));
+        if (rows == 0 || cols == 0) {
+            return rows + cols;
+        }
+        return gcd(rows, cols);
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            var t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,103 @@
+package advent2023;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * Measures a phase of a day's solver on the current thread, and records it as a {@link PhaseEvent}.
+ * <p>
+ * The CPU time and allocated bytes are of the current thread, so they are exact even when other phases run at the
+ * same time.
+ * The garbage collections and the peak heap usage are of the whole JVM, so they are only meaningful when the phase
+ * is the only thing running.
+ * A measurement that the JVM does not support is 0.
+ */
+public final class Probe {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+    private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+
+    private final PhaseEvent event = new PhaseEvent();
+    private final long wallStart;
+    private final long cpuStart;
+    private final long allocatedStart;
+    private final long gcCountStart;
+    private final long gcMillisStart;
+
+    private Probe(int day, int part, Phase phase) {
+        event.day = day;
+        event.part = part;
+        event.phase = phase.label();
+
+        for (var pool : HEAP_POOLS) {
+            pool.resetPeakUsage();
+        }
+        gcCountStart = gcCount();
+        gcMillisStart = gcMillis();
+        allocatedStart = allocatedBytes();
+        cpuStart = cpuTime();
+        event.begin();
+        wallStart = System.nanoTime();
+    }
+
+    /**
+     * Starts measuring a phase.
+     * The part is 0 for the read and parse phases.
+     */
+    public static Probe start(int day, int part, Phase phase) {
+        return new Probe(day, part, phase);
+    }
+
+    public PhaseMetrics stop() {
+        var wallNanos = System.nanoTime() - wallStart;
+        event.end();
+        var cpuNanos = cpuTime() - cpuStart;
+        var allocated = allocatedBytes() - allocatedStart;
+        var peakHeap = 0L;
+        for (var pool : HEAP_POOLS) {
+            peakHeap += pool.getPeakUsage().getUsed();
+        }
+
+        if (event.shouldCommit()) {
+            event.cpuTime = cpuNanos;
+            event.allocated = allocated;
+            event.commit();
+        }
+        return new PhaseMetrics(wallNanos, cpuNanos, allocated, gcCount() - gcCountStart, gcMillis() - gcMillisStart,
+                peakHeap);
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    private static long gcCount() {
+        var count = 0L;
+        for (var collector : COLLECTORS) {
+            count += Math.max(0, collector.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        var millis = 0L;
+        for (var collector : COLLECTORS) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,113 @@
+package advent2023;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Machine-readable reports of the metrics of a run.
+ * <ul>
+ *     <li>CSV: a row for each phase with the columns {@value #CSV_HEADER}.
+ *         The read and parse phases of a day have a part of 0 and no answer, since they are shared by both parts.
+ *         Two CSV reports can be compared with {@link RunDiff}.
+ *     <li>JSON: an array with an object for each day and part, with the answer and an object of metrics for each
+ *         phase.
+ * </ul>
+ */
+public final class Reports {
+
+    static final String CSV_HEADER =
+            "day,part,phase,answer,wall_ns,cpu_ns,allocated_bytes,gc_count,gc_ms,peak_heap_bytes";
+
+    private Reports() {
+    }
+
+    public static void writeCsv(List<Runner.Result> results, Path path) throws IOException {
+        var lines = new ArrayList<String>();
+        lines.add(CSV_HEADER);
+        for (var row : rows(results)) {
+            var metrics = row.metrics;
+            lines.add(row.day + "," + row.part + "," + row.phase.label() + ","
+                    + (row.phase == Phase.SOLVE ? Long.toString(row.answer) : "") + ","
+                    + metrics.wallNanos() + "," + metrics.cpuNanos() + "," + metrics.allocatedBytes() + ","
+                    + metrics.gcCount() + "," + metrics.gcMillis() + "," + metrics.peakHeapBytes());
+        }
+        Files.write(path, lines);
+    }
+
+    public static void writeJson(List<Runner.Result> results, Path path) throws IOException {
+        var json = new StringBuilder("[\n");
+        for (var i = 0; i < results.size(); i++) {
+            var result = results.get(i);
+            json.append("  {\"day\": ").append(result.day())
+                    .append(", \"part\": ").append(result.part())
+                    .append(", \"answer\": ").append(result.answer()).append(",\n");
+            appendJson(json, Phase.READ, result.read()).append(",\n");
+            appendJson(json, Phase.PARSE, result.parse()).append(",\n");
+            appendJson(json, Phase.SOLVE, result.solve()).append('\n');
+            json.append(i + 1 < results.size() ? "  },\n" : "  }\n");
+        }
+        json.append("]\n");
+        Files.writeString(path, json);
+    }
+
+    private static StringBuilder appendJson(StringBuilder json, Phase phase, PhaseMetrics metrics) {
+        return json.append("    \"").append(phase.label()).append("\": {")
+                .append("\"wallNanos\": ").append(metrics.wallNanos())
+                .append(", \"cpuNanos\": ").append(metrics.cpuNanos())
+                .append(", \"allocatedBytes\": ").append(metrics.allocatedBytes())
+                .append(", \"gcCount\": ").append(metrics.gcCount())
+                .append(", \"gcMillis\": ").append(metrics.gcMillis())
+                .append(", \"peakHeapBytes\": ").append(metrics.peakHeapBytes())
+                .append('}');
+    }
+
+    /**
+     * Reads a CSV report.
+     *
+     * @throws IllegalArgumentException if the file is not a CSV report
+     */
+    public static List<Row> readCsv(Path path) throws IOException {
+        var lines = Files.readAllLines(path);
+        if (lines.isEmpty() || !lines.get(0).equals(CSV_HEADER)) {
+            throw new IllegalArgumentException("not a CSV report: " + path);
+        }
+
+        var rows = new ArrayList<Row>();
+        for (var line : lines.subList(1, lines.size())) {
+            var fields = line.split(",", -1);
+            var phase = Phase.valueOf(fields[2].toUpperCase());
+            rows.add(new Row(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]), phase,
+                    fields[3].isEmpty() ? 0 : Long.parseLong(fields[3]),
+                    new PhaseMetrics(Long.parseLong(fields[4]), Long.parseLong(fields[5]), Long.parseLong(fields[6]),
+                            Long.parseLong(fields[7]), Long.parseLong(fields[8]), Long.parseLong(fields[9]))));
+        }
+        return rows;
+    }
+
+    /**
+     * Returns a row for each phase: the read and parse phases once for each day, then the solve phase of each part.
+     */
+    static List<Row> rows(List<Runner.Result> results) {
+        var rows = new ArrayList<Row>();
+        var previousDay = 0;
+        for (var result : results) {
+            if (result.day() != previousDay) {
+                rows.add(new Row(result.day(), 0, Phase.READ, 0, result.read()));
+                rows.add(new Row(result.day(), 0, Phase.PARSE, 0, result.parse()));
+                previousDay = result.day();
+            }
+            rows.add(new Row(result.day(), result.part(), Phase.SOLVE, result.answer(), result.solve()));
+        }
+        return rows;
+    }
+
+    /**
+     * The metrics of a phase.
+     * The part is 0 for the read and parse phases, and the answer is 0 for all but the solve phase.
+     */
+    public record Row(int day, int part, Phase phase, long answer, PhaseMetrics metrics) {
+    }
+}
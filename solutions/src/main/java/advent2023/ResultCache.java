@@ -0,0 +1,242 @@
+package advent2023;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A directory of the answers and metrics of solved parts, so that an input that has already been solved is not parsed
+ * or solved again.
+ * <p>
+ * An entry is keyed by the SHA-256 of the input bytes, the solver's class name and the version stamp, along with the
+ * part, so the entry of an input is never found after the input or the solvers change.
+ * The version stamp is the bytes of every class file of the {@code advent2023} package, so recompiling a changed day
+ * or a class that the days share, e.g., {@link Grid} or {@link Input}, stamps every solver anew.
+ * <p>
+ * Each entry is a small file named by its key, and the last modified time of the file is the last time it was used.
+ * When the files take more than the maximum size, the least recently used entries are deleted.
+ * Entries are written to a temporary file and moved into place, so concurrent runs sharing a directory never read a
+ * partial entry.
+ */
+public final class ResultCache {
+
+    private static final String PACKAGE = ResultCache.class.getPackageName().replace('.', '/');
+
+    private final Path dir;
+    private final long maxBytes;
+    private byte[] version;
+    private long bytes = -1;
+    private int hits;
+    private int misses;
+    private long savedNanos;
+
+    public ResultCache(Path dir, long maxBytes) {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the key of the solver's results for the input, which reads but does not parse the input.
+     */
+    public String key(Solver<?> solver, Input input) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        if (version == null) {
+            version = version();
+        }
+        digest.update(version);
+        digest.update(solver.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        input.digest(digest);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Returns the cached result of the part, or null if it is not cached.
+     */
+    public Runner.Result get(String key, int day, int part) throws IOException {
+        var path = path(key, part);
+        List<String> fields;
+        try {
+            fields = Arrays.asList(Files.readString(path).trim().split(" "));
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (NoSuchFileException e) {
+            misses++;
+            return null;
+        }
+
+        Runner.Result result;
+        try {
+            result = new Runner.Result(day, part, Long.parseLong(fields.get(0)), metrics(fields, 1),
+                    metrics(fields, 7), metrics(fields, 13));
+        } catch (RuntimeException e) {
+            // written by an incompatible version
+            Files.deleteIfExists(path);
+            misses++;
+            return null;
+        }
+        hits++;
+        savedNanos += result.read().wallNanos() + result.parse().wallNanos() + result.solve().wallNanos();
+        return result;
+    }
+
+    /**
+     * Caches the result of a part, then evicts the least recently used entries if the cache is too large.
+     */
+    public void put(String key, Runner.Result result) throws IOException {
+        var line = new StringBuilder().append(result.answer());
+        for (var metrics : List.of(result.read(), result.parse(), result.solve())) {
+            line.append(' ').append(metrics.wallNanos())
+                    .append(' ').append(metrics.cpuNanos())
+                    .append(' ').append(metrics.allocatedBytes())
+                    .append(' ').append(metrics.gcCount())
+                    .append(' ').append(metrics.gcMillis())
+                    .append(' ').append(metrics.peakHeapBytes());
+        }
+        line.append('\n');
+
+        Files.createDirectories(dir);
+        var path = path(key, result.part());
+        var temp = Files.createTempFile(dir, "entry", ".tmp");
+        Files.writeString(temp, line);
+        var size = Files.size(temp);
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        if (bytes == -1) {
+            bytes = size();
+        } else {
+            bytes += size;
+        }
+        if (bytes > maxBytes) {
+            evict();
+        }
+    }
+
+    /**
+     * Returns the number of results returned by {@link #get}.
+     */
+    public int hits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of results not found by {@link #get}.
+     */
+    public int misses() {
+        return misses;
+    }
+
+    /**
+     * Returns the sum of the wall time of every phase of the hits when they were cached.
+     */
+    public long savedNanos() {
+        return savedNanos;
+    }
+
+    private Path path(String key, int part) {
+        return dir.resolve(key + "-" + part);
+    }
+
+    private long size() throws IOException {
+        var size = 0L;
+        for (var path : entries()) {
+            size += Files.size(path);
+        }
+        return size;
+    }
+
+    private void evict() throws IOException {
+        var entries = entries();
+        var lastUsed = new HashMap<Path, FileTime>();
+        for (var path : entries) {
+            lastUsed.put(path, Files.getLastModifiedTime(path));
+        }
+        entries.sort(Comparator.comparing(lastUsed::get));
+
+        bytes = size();
+        for (var i = 0; i < entries.size() && bytes > maxBytes; i++) {
+            var path = entries.get(i);
+            var size = Files.size(path);
+            if (Files.deleteIfExists(path)) {
+                bytes -= size;
+            }
+        }
+    }
+
+    private List<Path> entries() throws IOException {
+        try (var files = Files.list(dir)) {
+            return new ArrayList<>(files.filter(path -> !path.toString().endsWith(".tmp")).toList());
+        }
+    }
+
+    private static PhaseMetrics metrics(List<String> fields, int from) {
+        return new PhaseMetrics(Long.parseLong(fields.get(from)), Long.parseLong(fields.get(from + 1)),
+                Long.parseLong(fields.get(from + 2)), Long.parseLong(fields.get(from + 3)),
+                Long.parseLong(fields.get(from + 4)), Long.parseLong(fields.get(from + 5)));
+    }
+
+    /**
+     * Returns the bytes of the class files of the {@code advent2023} package, in the order of their names, from the
+     * directory or the jar that this class was loaded from.
+     */
+    private static byte[] version() {
+        var bytes = new ByteArrayOutputStream();
+        try {
+            var location = Path.of(ResultCache.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (Files.isDirectory(location)) {
+                List<Path> classes;
+                try (var files = Files.list(location.resolve(PACKAGE))) {
+                    classes = new ArrayList<>(files.filter(path -> path.toString().endsWith(".class")).toList());
+                }
+                classes.sort(Comparator.naturalOrder());
+                for (var path : classes) {
+                    bytes.write(Files.readAllBytes(path));
+                }
+            } else {
+                try (var jar = new ZipFile(location.toFile())) {
+                    var entries = new ArrayList<ZipEntry>();
+                    for (var entry : Collections.list(jar.entries())) {
+                        var name = entry.getName();
+                        if (name.startsWith(PACKAGE + "/") && name.endsWith(".class")
+                                && name.indexOf('/', PACKAGE.length() + 1) == -1) {
+                            entries.add(entry);
+                        }
+                    }
+                    entries.sort(Comparator.comparing(ZipEntry::getName));
+                    for (var entry : entries) {
+                        try (InputStream in = jar.getInputStream(entry)) {
+                            in.transferTo(bytes);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,96 @@
+package advent2023;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+
+/**
+ * Compares two CSV reports written by {@link Runner} or {@link ParallelRunner} and prints the change in the wall time
+ * and allocated bytes of each phase.
+ * <p>
+ * Usage: {@code RunDiff <baseline.csv> <current.csv> [--threshold=10] [--min-ms=1]}
+ * <ul>
+ *     <li>--threshold: the percentage increase in wall time or allocated bytes that is a regression (default: 10)
+ *     <li>--min-ms: the smallest increase in wall time, in milliseconds, that is a regression, so that the noise of
+ *         very short phases is ignored (default: 1)
+ * </ul>
+ * A phase is marked as a regression if it got slower or allocated more by more than the threshold, and as wrong if
+ * its answer changed.
+ * Increases in allocation of less than 1 KB are ignored.
+ * The exit status is 1 if any phase is a regression or wrong.
+ */
+public class RunDiff {
+
+    // allocations in a phase vary by a few hundred bytes between runs, e.g., from class loading
+    private static final long MIN_ALLOCATED_BYTES = 1024;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: RunDiff <baseline.csv> <current.csv> [--threshold=10] [--min-ms=1]");
+            System.exit(2);
+        }
+        var threshold = 10.0;
+        var minMillis = 1.0;
+        for (var i = 2; i < args.length; i++) {
+            if (args[i].startsWith("--threshold=")) {
+                threshold = Double.parseDouble(args[i].substring("--threshold=".length()));
+            } else if (args[i].startsWith("--min-ms=")) {
+                minMillis = Double.parseDouble(args[i].substring("--min-ms=".length()));
+            }
+        }
+
+        var baseline = new HashMap<String, Reports.Row>();
+        for (var row : Reports.readCsv(Path.of(args[0]))) {
+            baseline.put(key(row), row);
+        }
+
+        System.out.printf("%-4s %-4s %-6s %12s %12s %8s %12s %12s %8s  %s%n", "Day", "Part", "Phase", "Base (ms)",
+                "Curr (ms)", "Change", "Base (MB)", "Curr (MB)", "Change", "");
+        var failed = false;
+        for (var current : Reports.readCsv(Path.of(args[1]))) {
+            var base = baseline.get(key(current));
+            if (base == null) {
+                continue;
+            }
+
+            var baseMetrics = base.metrics();
+            var currentMetrics = current.metrics();
+            var baseMillis = Runner.millis(baseMetrics.wallNanos());
+            var currentMillis = Runner.millis(currentMetrics.wallNanos());
+            var wallChange = change(baseMillis, currentMillis);
+            var allocChange = change(baseMetrics.allocatedBytes(), currentMetrics.allocatedBytes());
+            var allocIncrease = currentMetrics.allocatedBytes() - baseMetrics.allocatedBytes();
+
+            var note = "";
+            if (current.answer() != base.answer()) {
+                note = "WRONG ANSWER";
+            } else if (wallChange > threshold && currentMillis - baseMillis > minMillis
+                    || allocChange > threshold && allocIncrease >= MIN_ALLOCATED_BYTES) {
+                note = "REGRESSION";
+            }
+            failed |= !note.isEmpty();
+
+            System.out.printf("%-4d %-4d %-6s %12.3f %12.3f %7.1f%% %12.3f %12.3f %7.1f%%  %s%n", current.day(),
+                    current.part(), current.phase().label(), baseMillis, currentMillis, wallChange,
+                    baseMetrics.allocatedBytes() / 1_000_000.0, currentMetrics.allocatedBytes() / 1_000_000.0,
+                    allocChange, note);
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    private static String key(Reports.Row row) {
+        return row.day() + "," + row.part() + "," + row.phase();
+    }
+
+    /**
+     * Returns the percentage change from the base value, which is 0 if both values are 0.
+     */
+    private static double change(double base, double current) {
+        if (base == 0) {
+            return current == 0 ? 0 : 100;
+        }
+        return (current - base) * 100 / base;
+    }
+}
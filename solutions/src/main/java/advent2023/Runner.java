@@ -0,0 +1,227 @@
+package advent2023;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs any subset of days and parts in a single JVM and prints a timing table.
+ * <p>
+ * Usage: {@code Runner [days...] [--parts=1,2] [--input=input] [--warmup=0] [--csv=file] [--json=file]
+ * [--cache=dir] [--cache-mb=16] [--threads=n]}
+ * <ul>
+ *     <li>days: day numbers or ranges, e.g., "1 3 5-7" (default: all days)
+ *     <li>--parts: the parts to run (default: 1,2)
+ *     <li>--input: the directory with the dayNN input files (default: input)
+ *     <li>--warmup: the number of untimed runs of each day and part before the timed run (default: 0)
+ *     <li>--csv, --json: files to write the metrics of each phase to, see {@link Reports}
+ *     <li>--cache: a directory to cache results in, see {@link ResultCache} (default: no cache)
+ *     <li>--cache-mb: the maximum size of the cache (default: 16)
+ *     <li>--threads: the lines of the days with a {@link ParallelSolver} are folded on a pool of this many threads
+ *         instead of being parsed (default: 0, which parses and solves on the main thread)
+ * </ul>
+ * The input for each day is read and parsed once and shared by both parts.
+ * With a cache, the input is hashed, and the parts that are cached are returned with the answer and metrics of the
+ * run that cached them, so a day with every part cached is not parsed at all.
+ * A day that is folded in parallel has an empty parse phase, since the lines are parsed as they are folded.
+ * Each phase is measured with a {@link Probe}.
+ */
+public class Runner {
+
+    private static final PhaseMetrics NO_PHASE = new PhaseMetrics(0, 0, 0, 0, 0, 0);
+
+    public static void main(String[] args) throws IOException {
+        var days = new ArrayList<Integer>();
+        var parts = List.of(1, 2);
+        var inputDir = Path.of("input");
+        var warmup = 0;
+        Path csv = null;
+        Path json = null;
+        Path cacheDir = null;
+        var cacheMegabytes = 16;
+        var threads = 0;
+
+        for (var arg : args) {
+            if (arg.startsWith("--parts=")) {
+                parts = parseNumbers(arg.substring("--parts=".length()));
+            } else if (arg.startsWith("--input=")) {
+                inputDir = Path.of(arg.substring("--input=".length()));
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = Integer.parseInt(arg.substring("--warmup=".length()));
+            } else if (arg.startsWith("--csv=")) {
+                csv = Path.of(arg.substring("--csv=".length()));
+            } else if (arg.startsWith("--json=")) {
+                json = Path.of(arg.substring("--json=".length()));
+            } else if (arg.startsWith("--cache=")) {
+                cacheDir = Path.of(arg.substring("--cache=".length()));
+            } else if (arg.startsWith("--cache-mb=")) {
+                cacheMegabytes = Integer.parseInt(arg.substring("--cache-mb=".length()));
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(arg.substring("--threads=".length()));
+            } else {
+                days.addAll(parseNumbers(arg));
+            }
+        }
+        if (days.isEmpty()) {
+            for (var day = 1; day <= Solvers.days(); day++) {
+                days.add(day);
+            }
+        }
+
+        var cache = cacheDir == null ? null : new ResultCache(cacheDir, cacheMegabytes * 1_000_000L);
+        var pool = threads > 0 ? new ForkJoinPool(threads) : null;
+        var results = new ArrayList<Result>();
+        for (var day : days) {
+            results.addAll(run(day, parts, inputDir, warmup, cache, pool));
+        }
+        if (pool != null) {
+            pool.shutdown();
+        }
+        print(results);
+        if (cache != null) {
+            System.out.printf("Cache: %d hits, %d misses, saved %.3f ms%n", cache.hits(), cache.misses(),
+                    millis(cache.savedNanos()));
+        }
+        if (csv != null) {
+            Reports.writeCsv(results, csv);
+        }
+        if (json != null) {
+            Reports.writeJson(results, json);
+        }
+    }
+
+    /**
+     * Reads and parses the input for the day once, then solves each part.
+     */
+    public static List<Result> run(int day, List<Integer> parts, Path inputDir, int warmup) throws IOException {
+        return run(day, parts, inputDir, warmup, null, null);
+    }
+
+    /**
+     * Reads the input for the day once, then returns the cached result of each part, or parses the input once and
+     * solves and caches the parts that are not cached.
+     * With a pool, the parts of a {@link ParallelSolver} are folded in parallel instead of being parsed and solved.
+     * The cache and the pool may be null.
+     */
+    public static List<Result> run(int day, List<Integer> parts, Path inputDir, int warmup, ResultCache cache,
+            ForkJoinPool pool) throws IOException {
+        var solver = Solvers.get(day);
+        var path = inputDir.resolve(String.format("day%02d", day));
+
+        var readProbe = Probe.start(day, 0, Phase.READ);
+        var file = Input.map(path);
+        String key = null;
+        var results = new ArrayList<Result>();
+        if (cache != null) {
+            key = cache.key(solver, file);
+            for (var part : parts) {
+                var result = cache.get(key, day, part);
+                if (result != null) {
+                    results.add(result);
+                }
+            }
+            if (results.size() == parts.size()) {
+                return results;
+            }
+        }
+        var parallel = pool != null && solver instanceof ParallelSolver parallelSolver ? parallelSolver : null;
+        if (parallel == null) {
+            file.lineCount();
+        }
+        var read = readProbe.stop();
+
+        Object input = null;
+        var parse = NO_PHASE;
+        if (parallel == null) {
+            var parseProbe = Probe.start(day, 0, Phase.PARSE);
+            input = solver.parse(file);
+            parse = parseProbe.stop();
+        }
+
+        for (var part : parts) {
+            if (isCached(results, part)) {
+                continue;
+            }
+            var part1 = part == 1;
+            for (var i = 0; i < warmup; i++) {
+                if (parallel != null) {
+                    parallel.solveParallel(file, part1, pool);
+                } else {
+                    solver.solve(input, part1);
+                }
+            }
+
+            var solveProbe = Probe.start(day, part, Phase.SOLVE);
+            var answer = parallel != null ? parallel.solveParallel(file, part1, pool) : solver.solve(input, part1);
+            var result = new Result(day, part, answer, read, parse, solveProbe.stop());
+            results.add(result);
+            if (cache != null) {
+                cache.put(key, result);
+            }
+        }
+        results.sort(Comparator.comparingInt(Result::part));
+        return results;
+    }
+
+    private static boolean isCached(List<Result> results, int part) {
+        for (var result : results) {
+            if (result.part == part) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void print(List<Result> results) {
+        System.out.printf("%-4s %-4s %20s %12s %12s %12s %12s %10s%n", "Day", "Part", "Answer", "Read (ms)",
+                "Parse (ms)", "Solve (ms)", "Alloc (MB)", "GC (ms)");
+        var total = 0L;
+        var previousDay = 0;
+        for (var result : results) {
+            var solve = result.solve;
+            System.out.printf("%-4d %-4d %20d %12.3f %12.3f %12.3f %12.3f %10d%n", result.day, result.part,
+                    result.answer, millis(result.read.wallNanos()), millis(result.parse.wallNanos()),
+                    millis(solve.wallNanos()), solve.allocatedBytes() / 1_000_000.0, solve.gcMillis());
+            if (result.day != previousDay) {
+                total += result.read.wallNanos() + result.parse.wallNanos();
+                previousDay = result.day;
+            }
+            total += solve.wallNanos();
+        }
+        System.out.printf("Total: %.3f ms%n", millis(total));
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Parses a comma separated list of numbers and ranges, e.g., "1,3,5-7".
+     */
+    public static List<Integer> parseNumbers(String arg) {
+        var numbers = new ArrayList<Integer>();
+        for (var token : arg.split(",")) {
+            var dash = token.indexOf('-');
+            if (dash == -1) {
+                numbers.add(Integer.parseInt(token));
+            } else {
+                var from = Integer.parseInt(token.substring(0, dash));
+                var to = Integer.parseInt(token.substring(dash + 1));
+                for (var i = from; i <= to; i++) {
+                    numbers.add(i);
+                }
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * The answer and the metrics of each phase for a day and part.
+     * The read and parse phases are shared by all parts of the day.
+     */
+    public record Result(int day, int part, long answer, PhaseMetrics read, PhaseMetrics parse, PhaseMetrics solve) {
+    }
+}
@@ -0,0 +1,35 @@
+package advent2023;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A puzzle solution split into a parse phase and a solve phase.
+ * <ul>
+ *     <li>Parse: the bytes of the input file are converted into the puzzle's input structure.
+ *         The parsed input is the same for part 1 and part 2.
+ *     <li>Solve: the answer for part 1 or part 2 is computed from the parsed input.
+ *         The parsed input is not modified, so it can be solved any number of times.
+ * </ul>
+ * A solver whose parts are each a single scan of the raw bytes, e.g., Days 1 and 3, has no parse phase: its parsed
+ * input is the {@link Input} itself, so the parse phase of such a day measures nothing and all of its work is in the
+ * solve phase.
+ *
+ * @param <T> the parsed input
+ */
+public interface Solver<T> {
+
+    T parse(Input input);
+
+    long solve(T input, boolean part1);
+
+    /**
+     * Runs the solver from the command line, where {@code args[0]} is the part ("1" or "2") and {@code args[1]} is
+     * the path to the input file.
+     */
+    default void run(String[] args) throws IOException {
+        var part1 = args[0].equals("1");
+        var input = Input.map(Path.of(args[1]));
+        System.out.println(solve(parse(input), part1));
+    }
+}
@@ -0,0 +1,38 @@
+package advent2023;
+
+import java.util.List;
+
+/**
+ * The solvers for each day, indexed by day number.
+ */
+public final class Solvers {
+
+    private static final List<Solver<?>> SOLVERS = List.of(
+            new Day01(), new Day02(), new Day03(), new Day04(), new Day05(), new Day06(), new Day07(), new Day08(),
+            new Day09(), new Day10(), new Day11(), new Day12(), new Day13(), new Day14(), new Day15(), new Day16(),
+            new Day17(), new Day18(), new Day19(), new Day20(), new Day21(), new Day22());
+
+    private Solvers() {
+    }
+
+    /**
+     * Returns the number of days that have a solver, numbered 1 to {@code days()}.
+     */
+    public static int days() {
+        return SOLVERS.size();
+    }
+
+    /**
+     * Returns the solver for the day.
+     * The parsed input type is erased so that solvers for different days can be run the same way.
+     *
+     * @throws IllegalArgumentException if there is no solver for the day
+     */
+    @SuppressWarnings("unchecked")
+    public static Solver<Object> get(int day) {
+        if (day < 1 || day > SOLVERS.size()) {
+            throw new IllegalArgumentException("no solver for day " + day);
+        }
+        return (Solver<Object>) SOLVERS.get(day - 1);
+    }
+}
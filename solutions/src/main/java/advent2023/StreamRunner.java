@@ -0,0 +1,49 @@
+package advent2023;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Solves a part by streaming the input a line at a time, so inputs of any size, e.g., piped from
+ * {@code Generate --output=-}, are solved in constant memory.
+ * <p>
+ * Usage: {@code StreamRunner <day> <part> [path]}
+ * <ul>
+ *     <li>path: the input file, or "-" or nothing for stdin
+ * </ul>
+ * The answer is printed to stdout, and the lines and bytes read, the time and the peak heap to stderr.
+ * Only the days with a {@link StreamingSolver} can be streamed.
+ */
+public class StreamRunner {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: StreamRunner <day> <part> [path]");
+            System.exit(2);
+        }
+        var day = Integer.parseInt(args[0]);
+        var part = Integer.parseInt(args[1]);
+        if (!(Solvers.get(day) instanceof StreamingSolver solver)) {
+            System.err.println("day " + day + " cannot be streamed");
+            System.exit(2);
+            return;
+        }
+
+        var probe = Probe.start(day, part, Phase.SOLVE);
+        var fold = solver.fold(part == 1);
+        var stdin = args.length < 3 || args[2].equals("-");
+        try (var lines = stdin ? LineStream.stdin() : LineStream.open(Path.of(args[2]))) {
+            ByteSlice line;
+            while ((line = lines.next()) != null) {
+                fold.add(line);
+            }
+            var answer = fold.answer();
+            var metrics = probe.stop();
+
+            System.out.println(answer);
+            System.err.printf("%d lines, %.3f MB in %.3f ms, allocated: %.3f MB, peak heap: %.3f MB%n",
+                    lines.lineCount(), lines.bytesRead() / 1_000_000.0, Runner.millis(metrics.wallNanos()),
+                    metrics.allocatedBytes() / 1_000_000.0, metrics.peakHeapBytes() / 1_000_000.0);
+        }
+    }
+}
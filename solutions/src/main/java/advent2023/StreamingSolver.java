@@ -0,0 +1,19 @@
+package advent2023;
+
+/**
+ * A solver for a puzzle whose lines can be folded in the order they are read, so the input can be streamed with a
+ * {@link LineStream} instead of being read whole, see {@link StreamRunner}.
+ * <p>
+ * Most folds keep a bounded amount of state, e.g., the rows of a window in Day 3 or the copies of the next cards in
+ * Day 4, so their memory does not grow with the input.
+ * A fold may instead stream only the parse phase, keeping what it parsed from each line until the answer, e.g., the
+ * hands of Day 7, whose memory grows with the parsed input but not with the bytes of the input.
+ * The fold of a part gives the same answer as {@link Solver#solve} of the parsed input.
+ */
+public interface StreamingSolver {
+
+    /**
+     * Returns a new fold for the part.
+     */
+    LineFold fold(boolean part1);
+}
@@ -0,0 +1,196 @@
+package advent2023;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Finds the first and the last occurrence in a line of any word of a dictionary, e.g., numbers spelled out in
+ * several languages, with a cost per byte that does not grow with the number of words.
+ * <p>
+ * The words are compiled into two Aho-Corasick automata, one of the words and one of the reversed words, which are
+ * completed into tables of the next state for each state and byte, so a scan is one table lookup per byte.
+ * The last occurrence is found by scanning backwards with the reversed words until the first word starts, since every
+ * word that starts at a byte is complete in the reversed scan when that byte is read.
+ * The first occurrence is found by scanning forwards, where a word may end after a word that starts before it, e.g.,
+ * "abcd" ends after "bc", so the scan goes on past the first match while the state is deep enough for a word that
+ * starts before the match.
+ * When several words start at the same byte, the longest word is the match.
+ * <p>
+ * Bytes that are not in any word share a column of the tables, so the tables are as wide as the number of distinct
+ * bytes in the words rather than 256.
+ */
+public final class WordMatcher {
+
+    private final Automaton forwards;
+    private final Automaton backwards;
+
+    private WordMatcher(Automaton forwards, Automaton backwards) {
+        this.forwards = forwards;
+        this.backwards = backwards;
+    }
+
+    /**
+     * Compiles a dictionary of ASCII words to the non-negative value that is returned when a word is matched.
+     */
+    public static WordMatcher of(Map<String, Integer> words) {
+        var reversed = new String[words.size()];
+        var forwardWords = new String[words.size()];
+        var values = new int[words.size()];
+        var i = 0;
+        for (var entry : words.entrySet()) {
+            if (entry.getKey().isEmpty() || entry.getValue() < 0) {
+                throw new IllegalArgumentException("empty word or negative value: " + entry);
+            }
+            forwardWords[i] = entry.getKey();
+            reversed[i] = new StringBuilder(entry.getKey()).reverse().toString();
+            values[i] = entry.getValue();
+            i++;
+        }
+        return new WordMatcher(new Automaton(forwardWords, values), new Automaton(reversed, values));
+    }
+
+    /**
+     * Returns the value of the word that starts first in the line, or -1 if no word occurs.
+     */
+    public int first(ByteSlice line) {
+        var automaton = forwards;
+        var state = 0;
+        var value = -1;
+        var start = Integer.MAX_VALUE;
+        for (var i = 0; i < line.length(); i++) {
+            state = automaton.next(state, line.byteAt(i));
+            // the longest word that ends here starts before any other word that ends here
+            var length = automaton.lengths[state];
+            if (length > 0 && i - length + 1 <= start) {
+                value = automaton.values[state];
+                start = i - length + 1;
+            }
+            if (value != -1 && i - automaton.depths[state] + 1 > start) {
+                // no word that is still being read starts at or before the match
+                return value;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of the word that starts last in the line, or -1 if no word occurs.
+     */
+    public int last(ByteSlice line) {
+        var automaton = backwards;
+        var state = 0;
+        for (var i = line.length() - 1; i >= 0; i--) {
+            state = automaton.next(state, line.byteAt(i));
+            var value = automaton.values[state];
+            if (value != -1) {
+                return value;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of states of the automaton of the words, which is at most one more than the number of bytes
+     * in the words.
+     */
+    public int states() {
+        return forwards.values.length;
+    }
+
+    private static final class Automaton {
+
+        /**
+         * The column of each byte in the table, where 0 is the column of the bytes that are not in any word.
+         */
+        private final int[] columns = new int[256];
+        private final int width;
+        private final int[] table;
+        /**
+         * The value of the longest word that ends at each state, or -1 if no word ends there.
+         */
+        private final int[] values;
+        /**
+         * The length of the word of {@link #values} at each state, or 0 if no word ends there.
+         */
+        private final int[] lengths;
+        /**
+         * The number of bytes read from the root of the trie to each state.
+         */
+        private final int[] depths;
+
+        Automaton(String[] words, int[] wordValues) {
+            var maxStates = 1;
+            var width = 1;
+            for (var word : words) {
+                maxStates += word.length();
+                for (var i = 0; i < word.length(); i++) {
+                    var b = word.charAt(i) & 0xff;
+                    if (columns[b] == 0) {
+                        columns[b] = width++;
+                    }
+                }
+            }
+            this.width = width;
+
+            // the trie of the words, where 0 is no edge since no edge leads back to the root
+            var table = new int[maxStates * width];
+            var values = new int[maxStates];
+            Arrays.fill(values, -1);
+            var lengths = new int[maxStates];
+            var depths = new int[maxStates];
+            var states = 1;
+            for (var w = 0; w < words.length; w++) {
+                var state = 0;
+                for (var i = 0; i < words[w].length(); i++) {
+                    var column = columns[words[w].charAt(i) & 0xff];
+                    if (table[state * width + column] == 0) {
+                        depths[states] = i + 1;
+                        table[state * width + column] = states++;
+                    }
+                    state = table[state * width + column];
+                }
+                values[state] = wordValues[w];
+                lengths[state] = words[w].length();
+            }
+
+            // completes the trie breadth-first, so the failure state of a state, which is shallower, is complete
+            // before the state, and the edges of a state are still the edges of the trie until it is completed
+            var failures = new int[states];
+            var queue = new int[states];
+            var tail = 0;
+            for (var column = 0; column < width; column++) {
+                var child = table[column];
+                if (child != 0) {
+                    queue[tail++] = child;
+                }
+            }
+            for (var head = 0; head < tail; head++) {
+                var state = queue[head];
+                if (values[state] == -1) {
+                    // the longest word ending here is the longest word ending at the longest proper suffix
+                    values[state] = values[failures[state]];
+                    lengths[state] = lengths[failures[state]];
+                }
+                for (var column = 0; column < width; column++) {
+                    var child = table[state * width + column];
+                    var fallback = table[failures[state] * width + column];
+                    if (child != 0) {
+                        failures[child] = fallback;
+                        queue[tail++] = child;
+                    } else {
+                        table[state * width + column] = fallback;
+                    }
+                }
+            }
+
+            this.table = Arrays.copyOf(table, states * width);
+            this.values = Arrays.copyOf(values, states);
+            this.lengths = Arrays.copyOf(lengths, states);
+            this.depths = Arrays.copyOf(depths, states);
+        }
+
+        int next(int state, byte b) {
+            return table[state * width + columns[b & 0xff]];
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Calibration lines of lowercase letters, digits and spelled out digits.
+ * Every line has at least one digit.
+ * The size is the number of lines.
+ */
+class Day01Generator implements Generator {
+
+    private static final String[] WORDS = { "one", "two", "three", "four", "five", "six", "seven", "eight", "nine" };
+
+    @Override
+    public int baseSize() {
+        return 1000;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var line = new StringBuilder();
+        for (var i = 0; i < size; i++) {
+            line.setLength(0);
+            var length = 2 + random.nextInt(40);
+            var hasDigit = false;
+            while (line.length() < length) {
+                var choice = random.nextInt(10);
+                if (choice == 0) {
+                    line.append((char) ('1' + random.nextInt(9)));
+                    hasDigit = true;
+                } else if (choice == 1) {
+                    line.append(WORDS[random.nextInt(WORDS.length)]);
+                } else {
+                    line.append((char) ('a' + random.nextInt(26)));
+                }
+            }
+            if (!hasDigit) {
+                line.insert(random.nextInt(line.length() + 1), (char) ('1' + random.nextInt(9)));
+            }
+            out.append(line).append('\n');
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Games of 1 to 6 draws of up to 20 cubes of each color.
+ * The size is the number of games.
+ */
+class Day02Generator implements Generator {
+
+    private static final String[] COLORS = { "red", "green", "blue" };
+
+    @Override
+    public int baseSize() {
+        return 100;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var line = new StringBuilder();
+        for (var game = 1; game <= size; game++) {
+            line.setLength(0);
+            line.append("Game ").append(game).append(": ");
+            var draws = 1 + random.nextInt(6);
+            for (var i = 0; i < draws; i++) {
+                if (i > 0) {
+                    line.append("; ");
+                }
+                // a random non-empty subset of the colors, in a random order
+                var first = random.nextInt(3);
+                var colors = 1 + random.nextInt(3);
+                for (var j = 0; j < colors; j++) {
+                    if (j > 0) {
+                        line.append(", ");
+                    }
+                    line.append(1 + random.nextInt(20)).append(' ').append(COLORS[(first + j) % 3]);
+                }
+            }
+            out.append(line).append('\n');
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * A schematic of 1 to 3 digit numbers and symbols on a background of '.'.
+ * The size is the side of the square grid.
+ */
+class Day03Generator implements Generator {
+
+    private static final String SYMBOLS = "*#+$/@%=&-";
+
+    @Override
+    public int baseSize() {
+        return 140;
+    }
+
+    @Override
+    public int size(int scale) {
+        return Generator.gridSize(baseSize(), scale);
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var row = new char[size];
+        for (var i = 0; i < size; i++) {
+            var j = 0;
+            while (j < size) {
+                var choice = random.nextInt(100);
+                if (choice < 6) {
+                    // a number is followed by a '.' or the end of the row, so it does not run into the next number
+                    var digits = Math.min(1 + random.nextInt(3), size - j);
+                    row[j++] = (char) ('1' + random.nextInt(9));
+                    for (var k = 1; k < digits; k++) {
+                        row[j++] = (char) ('0' + random.nextInt(10));
+                    }
+                    if (j < size) {
+                        row[j++] = '.';
+                    }
+                } else if (choice < 10) {
+                    row[j++] = SYMBOLS.charAt(random.nextInt(SYMBOLS.length()));
+                } else {
+                    row[j++] = '.';
+                }
+            }
+            out.write(row);
+            out.write('\n');
+        }
+    }
+}
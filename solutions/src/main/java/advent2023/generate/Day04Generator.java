@@ -0,0 +1,61 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Scratchcards with 10 winning numbers and 25 numbers from 1 to 99.
+ * <p>
+ * Most cards have no matches, so the number of copies of a card stays small no matter how many cards there are, and
+ * a card never wins copies of cards past the end of the table.
+ * The size is the number of cards.
+ */
+class Day04Generator implements Generator {
+
+    private static final int WINNERS = 10;
+    private static final int NUMBERS = 25;
+
+    @Override
+    public int baseSize() {
+        return 200;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var width = Integer.toString(size).length();
+        var values = new int[99];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = i + 1;
+        }
+
+        var line = new StringBuilder();
+        for (var card = 1; card <= size; card++) {
+            var matches = random.nextInt(5) < 3 ? 0 : 1 + random.nextInt(3);
+            matches = Math.min(matches, size - card);
+
+            // the first 10 values are the winners, and the numbers are the first matches winners and the values after
+            // the winners
+            Randoms.shuffle(values, random);
+            line.setLength(0);
+            line.append("Card ").append(" ".repeat(width - Integer.toString(card).length())).append(card).append(':');
+            for (var i = 0; i < WINNERS; i++) {
+                appendNumber(line, values[i]);
+            }
+            line.append(" |");
+            var numbers = new int[NUMBERS];
+            for (var i = 0; i < NUMBERS; i++) {
+                numbers[i] = i < matches ? values[i] : values[WINNERS + i - matches];
+            }
+            Randoms.shuffle(numbers, random);
+            for (var number : numbers) {
+                appendNumber(line, number);
+            }
+            out.append(line).append('\n');
+        }
+    }
+
+    private static void appendNumber(StringBuilder line, int number) {
+        line.append(number < 10 ? "  " : " ").append(number);
+    }
+}
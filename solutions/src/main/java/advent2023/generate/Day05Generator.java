@@ -0,0 +1,63 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * An almanac of 10 seed ranges and 7 maps.
+ * <p>
+ * Each map splits the values from 0 to 2^32 into ranges at random points and moves the ranges into a random order,
+ * so every value has exactly one mapping, like the puzzle input.
+ * The size is the number of ranges in each map.
+ */
+class Day05Generator implements Generator {
+
+    private static final long VALUES = 1L << 32;
+    private static final int SEED_RANGES = 10;
+    private static final String[] CATEGORIES = {
+            "seed", "soil", "fertilizer", "water", "light", "temperature", "humidity", "location" };
+
+    @Override
+    public int baseSize() {
+        return 35;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        out.write("seeds:");
+        for (var i = 0; i < SEED_RANGES; i++) {
+            var start = (long) (random.nextDouble() * VALUES);
+            var length = 1 + (long) (random.nextDouble() * VALUES / (4 * SEED_RANGES));
+            out.write(" " + start + " " + Math.min(length, VALUES - start));
+        }
+        out.write('\n');
+
+        for (var map = 0; map + 1 < CATEGORIES.length; map++) {
+            out.write("\n" + CATEGORIES[map] + "-to-" + CATEGORIES[map + 1] + " map:\n");
+
+            var starts = new long[size + 1];
+            for (var i = 1; i < size; i++) {
+                starts[i] = (long) (random.nextDouble() * VALUES);
+            }
+            starts[size] = VALUES;
+            Arrays.sort(starts);
+
+            var order = new int[size];
+            for (var i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Randoms.shuffle(order, random);
+
+            var dest = 0L;
+            for (var i : order) {
+                var length = starts[i + 1] - starts[i];
+                if (length > 0) {
+                    out.write(dest + " " + starts[i] + " " + length + "\n");
+                    dest += length;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Races with 2 digit times and a record distance that can be beaten.
+ * <p>
+ * Part 2 joins the digits of all the races into one race, so the joined record must also be beatable and the joined
+ * distance must fit in a long.
+ * This limits the input to 4 races, so the size, the number of races, does not grow with the scale.
+ */
+class Day06Generator implements Generator {
+
+    private static final int MAX_RACES = 4;
+
+    @Override
+    public int baseSize() {
+        return MAX_RACES;
+    }
+
+    @Override
+    public int size(int scale) {
+        return MAX_RACES;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        if (size < 1 || size > MAX_RACES) {
+            throw new IllegalArgumentException("races must be from 1 to " + MAX_RACES + ": " + size);
+        }
+
+        var times = new long[size];
+        var distances = new long[size];
+        do {
+            for (var i = 0; i < size; i++) {
+                times[i] = 40 + random.nextInt(60);
+                var best = (times[i] / 2) * (times[i] - times[i] / 2);
+                distances[i] = best / 2 + random.nextLong(best / 2);
+            }
+        } while (!canWin(join(times), join(distances)));
+
+        var time = new StringBuilder("Time:    ");
+        var distance = new StringBuilder("Distance:");
+        for (var i = 0; i < size; i++) {
+            time.append(String.format("%7d", times[i]));
+            distance.append(String.format("%7d", distances[i]));
+        }
+        out.append(time).append('\n').append(distance).append('\n');
+    }
+
+    private static long join(long[] values) {
+        var joined = new StringBuilder();
+        for (var value : values) {
+            joined.append(value);
+        }
+        return Long.parseLong(joined.toString());
+    }
+
+    private static boolean canWin(long time, long distance) {
+        return (time / 2) * (time - time / 2) > distance;
+    }
+}
@@ -0,0 +1,32 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Random hands of 5 cards with bids from 1 to 1000.
+ * The size is the number of hands.
+ */
+class Day07Generator implements Generator {
+
+    private static final String CARDS = "23456789TJQKA";
+
+    @Override
+    public int baseSize() {
+        return 1000;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var line = new StringBuilder();
+        for (var i = 0; i < size; i++) {
+            line.setLength(0);
+            for (var j = 0; j < 5; j++) {
+                line.append(CARDS.charAt(random.nextInt(CARDS.length())));
+            }
+            line.append(' ').append(1 + random.nextInt(1000));
+            out.append(line).append('\n');
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+/**
+ * A network of 5 ghost paths, one from AAA to ZZZ and the others from ??A to ??Z.
+ * <p>
+ * Each path is two parallel tracks of nodes: left continues on the first track and right continues on the second,
+ * so every sequence of directions reaches the end node in the same number of steps, and the end node leads back to the
+ * start of the tracks, like the puzzle input.
+ * The path lengths are distinct primes, so the answer to part 2 is their product.
+ * The size is the number of nodes, limited by the labels being 3 letters.
+ */
+class Day08Generator implements Generator {
+
+    private static final int PATHS = 5;
+    private static final int MAX_NODES = 24 * 26 * 26;
+
+    @Override
+    public int baseSize() {
+        return 750;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        if (size > MAX_NODES) {
+            throw new IllegalArgumentException("nodes must be at most " + MAX_NODES + ": " + size);
+        }
+
+        var directions = new StringBuilder();
+        var directionCount = 100 + random.nextInt(200);
+        for (var i = 0; i < directionCount; i++) {
+            directions.append(random.nextBoolean() ? 'L' : 'R');
+        }
+        out.append(directions).append("\n\n");
+
+        // a path of length n has a start node, an end node and two tracks of n - 1 nodes
+        var lines = new ArrayList<String>();
+        var nextLabel = 0;
+        var length = BigInteger.valueOf(Math.max(2, size / (2 * PATHS)));
+        for (var path = 0; path < PATHS; path++) {
+            length = length.nextProbablePrime();
+            var n = length.intValue();
+            var start = path == 0 ? "AAA" : label(path, 'A');
+            var end = path == 0 ? "ZZZ" : label(path, 'Z');
+
+            var left = new String[n];
+            var right = new String[n];
+            for (var i = 1; i < n; i++) {
+                left[i] = label(nextLabel++);
+                right[i] = label(nextLabel++);
+            }
+            lines.add(node(start, left[1], right[1]));
+            for (var i = 1; i < n - 1; i++) {
+                lines.add(node(left[i], left[i + 1], right[i + 1]));
+                lines.add(node(right[i], left[i + 1], right[i + 1]));
+            }
+            lines.add(node(left[n - 1], end, end));
+            lines.add(node(right[n - 1], end, end));
+            lines.add(node(end, left[1], right[1]));
+        }
+
+        Collections.shuffle(lines, random);
+        for (var line : lines) {
+            out.append(line).append('\n');
+        }
+    }
+
+    private static String node(String label, String left, String right) {
+        return label + " = (" + left + ", " + right + ")";
+    }
+
+    /**
+     * Returns the label of a node in a track, which does not end with 'A' or 'Z'.
+     */
+    private static String label(int index) {
+        if (index >= MAX_NODES) {
+            throw new IllegalArgumentException("too many nodes for 3 letter labels");
+        }
+        var last = (char) ('B' + index % 24);
+        index /= 24;
+        return "" + (char) ('A' + index / 26) + (char) ('A' + index % 26) + last;
+    }
+
+    /**
+     * Returns the label of the start or end node of a ghost path other than the first.
+     */
+    private static String label(int path, char last) {
+        return "" + (char) ('A' + path / 26) + (char) ('B' + path % 26) + last;
+    }
+}
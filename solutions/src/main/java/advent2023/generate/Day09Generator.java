@@ -0,0 +1,45 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Sequences of 21 values of a random polynomial with a degree of at most 7 and small coefficients, so that repeated
+ * differences reach all zeros.
+ * The size is the number of sequences.
+ */
+class Day09Generator implements Generator {
+
+    private static final int VALUES = 21;
+
+    @Override
+    public int baseSize() {
+        return 200;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var line = new StringBuilder();
+        var coefficients = new long[8];
+        for (var i = 0; i < size; i++) {
+            var degree = random.nextInt(coefficients.length);
+            for (var k = 0; k <= degree; k++) {
+                coefficients[k] = random.nextInt(11) - 5;
+            }
+
+            line.setLength(0);
+            for (var x = 0; x < VALUES; x++) {
+                var value = 0L;
+                for (var k = degree; k >= 0; k--) {
+                    value = value * x + coefficients[k];
+                }
+                if (x > 0) {
+                    line.append(' ');
+                }
+                line.append(value);
+            }
+            out.append(line).append('\n');
+        }
+    }
+}
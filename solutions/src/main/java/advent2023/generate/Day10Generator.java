@@ -0,0 +1,74 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * A field of pipes with one main loop through the start tile 'S'.
+ * <p>
+ * The points of a random {@link Loop} are the odd rows and columns of the field, and the tiles between joined points
+ * are straight pipes, so the tiles in the even rows and columns between parts of the loop can be enclosed.
+ * Every tile not on the loop is a random pipe or ground, except the neighbors of 'S', which are ground so that only
+ * the loop connects to it.
+ * The size is the side of the square field, rounded to 1 more than a multiple of 4.
+ */
+class Day10Generator implements Generator {
+
+    private static final String JUNK = "|-LJ7F..";
+
+    @Override
+    public int baseSize() {
+        return 140;
+    }
+
+    @Override
+    public int size(int scale) {
+        return Generator.gridSize(baseSize(), scale);
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var loop = Loop.random(Math.max(1, (size - 1) / 4), random);
+        var side = 2 * loop.side() + 1;
+        var tiles = new char[side][side];
+        for (var row : tiles) {
+            for (var j = 0; j < side; j++) {
+                row[j] = JUNK.charAt(random.nextInt(JUNK.length()));
+            }
+        }
+
+        for (var r = 0; r < loop.side(); r++) {
+            for (var c = 0; c < loop.side(); c++) {
+                var up = loop.joined(r, c, Loop.UP);
+                var down = loop.joined(r, c, Loop.DOWN);
+                var left = loop.joined(r, c, Loop.LEFT);
+                var right = loop.joined(r, c, Loop.RIGHT);
+                tiles[2 * r + 1][2 * c + 1] = up && down ? '|' : left && right ? '-' : up && right ? 'L'
+                        : up && left ? 'J' : down && left ? '7' : 'F';
+                if (right) {
+                    tiles[2 * r + 1][2 * c + 2] = '-';
+                }
+                if (down) {
+                    tiles[2 * r + 2][2 * c + 1] = '|';
+                }
+            }
+        }
+
+        var startRow = 2 * random.nextInt(loop.side()) + 1;
+        var startCol = 2 * random.nextInt(loop.side()) + 1;
+        tiles[startRow][startCol] = 'S';
+        for (var c = 0; c < 4; c++) {
+            var row = startRow + (c == Loop.DOWN ? 1 : c == Loop.UP ? -1 : 0);
+            var col = startCol + (c == Loop.RIGHT ? 1 : c == Loop.LEFT ? -1 : 0);
+            if (!loop.joined((startRow - 1) / 2, (startCol - 1) / 2, c)) {
+                tiles[row][col] = '.';
+            }
+        }
+
+        for (var row : tiles) {
+            out.write(row);
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * An image with about 1 galaxy in 45 tiles and about 10 empty rows and columns, like the puzzle input.
+ * <p>
+ * The number of empty rows and columns does not grow with the size, so the sum of the expanded distances for part 2
+ * fits in a long for images up to about 5000 by 5000.
+ * The size is the side of the square image.
+ */
+class Day11Generator implements Generator {
+
+    @Override
+    public int baseSize() {
+        return 140;
+    }
+
+    @Override
+    public int size(int scale) {
+        return Generator.gridSize(baseSize(), scale);
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var emptyRows = new boolean[size];
+        var emptyCols = new boolean[size];
+        for (var i = 0; i < 10; i++) {
+            emptyRows[random.nextInt(size)] = true;
+            emptyCols[random.nextInt(size)] = true;
+        }
+
+        var row = new char[size];
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < size; j++) {
+                row[j] = !emptyRows[i] && !emptyCols[j] && random.nextInt(45) == 0 ? '#' : '.';
+            }
+            out.write(row);
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Rows of up to 20 springs with about half the conditions unknown.
+ * <p>
+ * Each row is made from an arrangement of groups of damaged springs, so it has at least one arrangement.
+ * The size is the number of rows.
+ */
+class Day12Generator implements Generator {
+
+    @Override
+    public int baseSize() {
+        return 1000;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var springs = new StringBuilder();
+        var groups = new StringBuilder();
+        for (var i = 0; i < size; i++) {
+            springs.setLength(0);
+            groups.setLength(0);
+            var length = 4 + random.nextInt(17);
+
+            springs.append(".".repeat(random.nextInt(3)));
+            while (true) {
+                var group = 1 + random.nextInt(5);
+                if (springs.length() + group > length) {
+                    break;
+                }
+                springs.append("#".repeat(group));
+                springs.append(".".repeat(1 + random.nextInt(3)));
+                groups.append(groups.isEmpty() ? "" : ",").append(group);
+            }
+            if (groups.isEmpty()) {
+                springs.setLength(0);
+                springs.append('#');
+                groups.append(1);
+            }
+            springs.setLength(Math.min(springs.length(), length));
+            while (springs.length() < length) {
+                springs.append('.');
+            }
+
+            for (var j = 0; j < springs.length(); j++) {
+                if (random.nextBoolean()) {
+                    springs.setCharAt(j, '?');
+                }
+            }
+            out.append(springs).append(' ').append(groups).append('\n');
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Patterns of ash and rocks with exactly one perfect reflection and exactly one reflection with a single smudge.
+ * <p>
+ * A random pattern is mirrored across a horizontal line and a vertical line.
+ * Then one tile in a row the horizontal reflection does not reach, but in a column the vertical reflection does reach,
+ * is flipped, so the horizontal reflection stays perfect and the vertical reflection has one smudge.
+ * Patterns with any other reflection with at most one smudge are discarded, and half the patterns are transposed.
+ * The size is the number of patterns.
+ */
+class Day13Generator implements Generator {
+
+    @Override
+    public int baseSize() {
+        return 100;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        for (var k = 0; k < size; k++) {
+            if (k > 0) {
+                out.write('\n');
+            }
+
+            char[][] pattern;
+            do {
+                pattern = randomPattern(random);
+            } while (!hasOneReflectionOfEach(pattern));
+
+            if (random.nextBoolean()) {
+                pattern = transpose(pattern);
+            }
+            for (var row : pattern) {
+                out.write(row);
+                out.write('\n');
+            }
+        }
+    }
+
+    private static char[][] randomPattern(Random random) {
+        var rows = 5 + random.nextInt(13);
+        var cols = 5 + random.nextInt(13);
+        var pattern = new char[rows][cols];
+        for (var row : pattern) {
+            for (var j = 0; j < cols; j++) {
+                row[j] = random.nextBoolean() ? '#' : '.';
+            }
+        }
+
+        var col = 1 + random.nextInt(cols - 1);
+        var colReach = Math.min(col, cols - col);
+        for (var row : pattern) {
+            for (var d = 1; d <= colReach; d++) {
+                row[col + d - 1] = row[col - d];
+            }
+        }
+
+        // the reflection is in the top or bottom part of the pattern so that some rows are not reflected
+        var rowReach = 1 + random.nextInt((rows - 1) / 2);
+        var row = random.nextBoolean() ? rowReach : rows - rowReach;
+        for (var d = 1; d <= rowReach; d++) {
+            pattern[row + d - 1] = pattern[row - d].clone();
+        }
+
+        var smudgeRow = row == rowReach ? 2 * rowReach + random.nextInt(rows - 2 * rowReach)
+                : random.nextInt(rows - 2 * rowReach);
+        var smudgeCol = col - colReach + random.nextInt(2 * colReach);
+        pattern[smudgeRow][smudgeCol] = pattern[smudgeRow][smudgeCol] == '#' ? '.' : '#';
+        return pattern;
+    }
+
+    /**
+     * Returns true if, across both orientations, exactly one reflection is perfect and exactly one has a single smudge.
+     */
+    private static boolean hasOneReflectionOfEach(char[][] pattern) {
+        var perfect = 0;
+        var smudged = 0;
+        for (var line : new char[][][] { pattern, transpose(pattern) }) {
+            for (var i = 1; i < line.length; i++) {
+                var errors = 0;
+                for (var d = 1; d <= Math.min(i, line.length - i); d++) {
+                    for (var j = 0; j < line[0].length; j++) {
+                        if (line[i - d][j] != line[i + d - 1][j]) {
+                            errors++;
+                        }
+                    }
+                }
+                if (errors == 0) {
+                    perfect++;
+                } else if (errors == 1) {
+                    smudged++;
+                }
+            }
+        }
+        return perfect == 1 && smudged == 1;
+    }
+
+    private static char[][] transpose(char[][] pattern) {
+        var transposed = new char[pattern[0].length][pattern.length];
+        for (var i = 0; i < pattern.length; i++) {
+            for (var j = 0; j < pattern[0].length; j++) {
+                transposed[j][i] = pattern[i][j];
+            }
+        }
+        return transposed;
+    }
+}
@@ -0,0 +1,35 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * A platform of round rocks and cube rocks.
+ * The size is the side of the square platform.
+ */
+class Day14Generator implements Generator {
+
+    @Override
+    public int baseSize() {
+        return 100;
+    }
+
+    @Override
+    public int size(int scale) {
+        return Generator.gridSize(baseSize(), scale);
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var row = new char[size];
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < size; j++) {
+                var choice = random.nextInt(100);
+                row[j] = choice < 20 ? 'O' : choice < 38 ? '#' : '.';
+            }
+            out.write(row);
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * An initialization sequence of steps that insert or remove lenses with about 500 distinct labels.
+ * Like the puzzle input, it is a single line with no line separator.
+ * The size is the number of steps.
+ */
+class Day15Generator implements Generator {
+
+    @Override
+    public int baseSize() {
+        return 4000;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var labels = new String[500];
+        for (var i = 0; i < labels.length; i++) {
+            var label = new StringBuilder();
+            var length = 2 + random.nextInt(5);
+            for (var j = 0; j < length; j++) {
+                label.append((char) ('a' + random.nextInt(26)));
+            }
+            labels[i] = label.toString();
+        }
+
+        for (var i = 0; i < size; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(labels[random.nextInt(labels.length)]);
+            if (random.nextInt(5) < 2) {
+                out.write('-');
+            } else {
+                out.write('=');
+                out.write('1' + random.nextInt(9));
+            }
+        }
+    }
+}
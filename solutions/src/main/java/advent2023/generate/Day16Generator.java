@@ -0,0 +1,36 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * A contraption of empty space with about 1 mirror or splitter in 10 tiles.
+ * The size is the side of the square contraption.
+ */
+class Day16Generator implements Generator {
+
+    private static final String DEVICES = "/\\|-";
+
+    @Override
+    public int baseSize() {
+        return 110;
+    }
+
+    @Override
+    public int size(int scale) {
+        return Generator.gridSize(baseSize(), scale);
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var row = new char[size];
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < size; j++) {
+                row[j] = random.nextInt(10) == 0 ? DEVICES.charAt(random.nextInt(DEVICES.length())) : '.';
+            }
+            out.write(row);
+            out.write('\n');
+        }
+    }
+}
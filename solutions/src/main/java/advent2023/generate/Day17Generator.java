@@ -0,0 +1,34 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * A map of the heat loss of each city block, from 1 to 9.
+ * The size is the side of the square map.
+ */
+class Day17Generator implements Generator {
+
+    @Override
+    public int baseSize() {
+        return 141;
+    }
+
+    @Override
+    public int size(int scale) {
+        return Generator.gridSize(baseSize(), scale);
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var row = new char[size];
+        for (var i = 0; i < size; i++) {
+            for (var j = 0; j < size; j++) {
+                row[j] = (char) ('1' + random.nextInt(9));
+            }
+            out.write(row);
+            out.write('\n');
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * A dig plan around a random {@link Loop}, so the trench never crosses itself.
+ * <p>
+ * The steps of the loop are merged into one instruction for each straight part, and each row and column of the
+ * lattice is stretched by a random amount: up to 10 meters for the part 1 instructions and up to a total of 2^20
+ * meters for the part 2 instructions in the colors, which encode a distance in 5 hex digits.
+ * The size is about the number of instructions.
+ */
+class Day18Generator implements Generator {
+
+    private static final char[] DIRECTIONS = { 'R', 'D', 'L', 'U' };
+    private static final int MAX_COLOR_DISTANCE = 0xFFFFF;
+    // the number of instructions for each cell of the maze
+    private static final double INSTRUCTIONS_PER_CELL = 1.4;
+
+    @Override
+    public int baseSize() {
+        return 600;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var loop = Loop.random((int) Math.max(1, Math.round(Math.sqrt(size / INSTRUCTIONS_PER_CELL))), random);
+        var side = loop.side();
+        var widths = stretch(side, 10, random);
+        var heights = stretch(side, 10, random);
+        var colorWidths = stretch(side, MAX_COLOR_DISTANCE / side, random);
+        var colorHeights = stretch(side, MAX_COLOR_DISTANCE / side, random);
+
+        var steps = loop.walk();
+        var row = 0;
+        var col = 0;
+        var i = 0;
+        while (i < steps.length) {
+            var direction = steps[i];
+            var distance = 0;
+            var colorDistance = 0;
+            for (; i < steps.length && steps[i] == direction; i++) {
+                switch (direction) {
+                    case Loop.RIGHT -> {
+                        distance += widths[col];
+                        colorDistance += colorWidths[col++];
+                    }
+                    case Loop.DOWN -> {
+                        distance += heights[row];
+                        colorDistance += colorHeights[row++];
+                    }
+                    case Loop.LEFT -> {
+                        distance += widths[--col];
+                        colorDistance += colorWidths[col];
+                    }
+                    default -> {
+                        distance += heights[--row];
+                        colorDistance += colorHeights[row];
+                    }
+                }
+            }
+            // the last digit of the color is the direction, in the same order as the loop's directions
+            out.write(String.format("%c %d (#%05x%d)\n", DIRECTIONS[direction], distance, colorDistance, direction));
+        }
+    }
+
+    /**
+     * Returns the number of meters between each pair of neighboring lattice points.
+     */
+    private static int[] stretch(int side, int max, Random random) {
+        var distances = new int[side - 1];
+        for (var i = 0; i < distances.length; i++) {
+            distances[i] = 1 + random.nextInt(Math.max(1, max));
+        }
+        return distances;
+    }
+}
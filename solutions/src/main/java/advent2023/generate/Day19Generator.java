@@ -0,0 +1,115 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+/**
+ * A tree of workflows from "in" and parts with ratings from 1 to 4000.
+ * <p>
+ * Each workflow has 1 to 3 rules and a fallback, and every destination is either accepted, rejected, or a workflow that
+ * no other rule sends to, so every part ends in A or R, like the puzzle input.
+ * The value in a rule splits the range of ratings that can reach it, so no rule is unreachable.
+ * The workflows are created breadth first, so the tree is shallow.
+ * The size is the number of workflows, and there is a part for every 3 workflows.
+ */
+class Day19Generator implements Generator {
+
+    private static final String CATEGORIES = "xmas";
+
+    @Override
+    public int baseSize() {
+        return 550;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var lines = new ArrayList<String>();
+        var pending = new ArrayDeque<Workflow>();
+        pending.add(new Workflow("in", new int[] { 1, 1, 1, 1 }, new int[] { 4000, 4000, 4000, 4000 }));
+        var workflows = 1;
+        var nextName = 0;
+
+        while (!pending.isEmpty()) {
+            var workflow = pending.remove();
+            var min = workflow.min;
+            var max = workflow.max;
+            var line = new StringBuilder(workflow.name).append('{');
+            var rules = 1 + random.nextInt(3);
+            for (var i = 0; i <= rules; i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+
+                // the ratings of the parts sent by a rule, and the parts left for the next rule, are never empty
+                var successMin = min.clone();
+                var successMax = max.clone();
+                var category = random.nextInt(4);
+                if (i < rules && max[category] > min[category]) {
+                    line.append(CATEGORIES.charAt(category));
+                    if (random.nextBoolean()) {
+                        var value = min[category] + 1 + random.nextInt(max[category] - min[category]);
+                        line.append('<').append(value);
+                        successMax[category] = value - 1;
+                        min[category] = value;
+                    } else {
+                        var value = min[category] + random.nextInt(max[category] - min[category]);
+                        line.append('>').append(value);
+                        successMin[category] = value + 1;
+                        max[category] = value;
+                    }
+                    line.append(':');
+                } else {
+                    i = rules;
+                }
+
+                // the fallback of the last pending workflow continues the tree until it has all the workflows
+                var last = i == rules && pending.isEmpty();
+                if (workflows < size && (last || random.nextInt(3) != 0)) {
+                    String name;
+                    do {
+                        name = name(nextName++);
+                    } while (name.equals("in"));
+                    line.append(name);
+                    pending.add(new Workflow(name, successMin, successMax));
+                    workflows++;
+                } else {
+                    line.append(random.nextBoolean() ? 'A' : 'R');
+                }
+            }
+            lines.add(line.append('}').toString());
+        }
+
+        Collections.shuffle(lines, random);
+        for (var line : lines) {
+            out.append(line).append('\n');
+        }
+
+        out.write('\n');
+        var parts = size / 3 + 1;
+        for (var i = 0; i < parts; i++) {
+            out.write(String.format("{x=%d,m=%d,a=%d,s=%d}\n", 1 + random.nextInt(4000),
+                    1 + random.nextInt(4000), 1 + random.nextInt(4000), 1 + random.nextInt(4000)));
+        }
+    }
+
+    /**
+     * Returns a distinct name of at least 2 lowercase letters for each index.
+     */
+    private static String name(int index) {
+        var name = new StringBuilder();
+        for (var value = index + 26; value > 0; value /= 26) {
+            name.append((char) ('a' + value % 26));
+        }
+        return name.toString();
+    }
+
+    /**
+     * A workflow to be written and the range of each rating of the parts sent to it.
+     */
+    private record Workflow(String name, int[] min, int[] max) {
+    }
+}
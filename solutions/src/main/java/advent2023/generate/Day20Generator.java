@@ -0,0 +1,120 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * A network of 12 bit counters, like the puzzle input.
+ * <p>
+ * The broadcaster starts a chain of 12 flip-flops for each counter, which count button presses in binary.
+ * The flip-flops of the 1 bits of a prime period send to a conjunction, which fires when the count reaches the period
+ * and resets the counter by sending to the flip-flops of the 0 bits and the first flip-flop.
+ * Each conjunction sends to an inverter, and the inverters send to the conjunction that sends to rx, so the answer to
+ * part 2 is the product of the periods.
+ * The product of more than 5 periods does not fit in a long.
+ * The size is about the number of modules, with 14 modules for each counter.
+ */
+class Day20Generator implements Generator {
+
+    private static final int BITS = 12;
+    private static final int MODULES_PER_COUNTER = BITS + 2;
+
+    @Override
+    public int baseSize() {
+        return 58;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var counters = Math.max(1, (size - 2) / MODULES_PER_COUNTER);
+        var names = new Names(random);
+        var lines = new ArrayList<String>();
+
+        var parent = names.next();
+        var firstFlipFlops = new ArrayList<String>();
+        var periods = new HashSet<Integer>();
+        for (var k = 0; k < counters; k++) {
+            int period;
+            do {
+                period = BigInteger.valueOf((1 << (BITS - 1)) + random.nextInt(1 << (BITS - 1))).nextProbablePrime()
+                        .intValue();
+            } while (period >= 1 << BITS || !periods.add(period));
+
+            var flipFlops = new String[BITS];
+            for (var i = 0; i < BITS; i++) {
+                flipFlops[i] = names.next();
+            }
+            var conjunction = names.next();
+            var inverter = names.next();
+            firstFlipFlops.add(flipFlops[0]);
+
+            var resets = new ArrayList<String>();
+            for (var i = 0; i < BITS; i++) {
+                var dests = new ArrayList<String>();
+                if (i + 1 < BITS) {
+                    dests.add(flipFlops[i + 1]);
+                }
+                if ((period >> i & 1) == 1) {
+                    dests.add(conjunction);
+                }
+                if ((period >> i & 1) == 0 || i == 0) {
+                    resets.add(flipFlops[i]);
+                }
+                Collections.shuffle(dests, random);
+                lines.add(line("%" + flipFlops[i], dests));
+            }
+            resets.add(inverter);
+            Collections.shuffle(resets, random);
+            lines.add(line("&" + conjunction, resets));
+            lines.add(line("&" + inverter, List.of(parent)));
+        }
+        lines.add(line("broadcaster", firstFlipFlops));
+        lines.add(line("&" + parent, List.of("rx")));
+
+        Collections.shuffle(lines, random);
+        for (var line : lines) {
+            out.append(line).append('\n');
+        }
+    }
+
+    private static String line(String module, List<String> dests) {
+        return module + " -> " + String.join(", ", dests);
+    }
+
+    /**
+     * Random distinct module names that are not the names of the modules added by the solver, button and rx.
+     */
+    private static class Names {
+
+        private final Random random;
+        private final Set<String> used = new HashSet<>(Set.of("rx", "button"));
+
+        Names(Random random) {
+            this.random = random;
+        }
+
+        String next() {
+            var length = 2;
+            while (true) {
+                var name = new StringBuilder();
+                for (var i = 0; i < length; i++) {
+                    name.append((char) ('a' + random.nextInt(26)));
+                }
+                if (used.add(name.toString())) {
+                    return name.toString();
+                }
+                // longer names once the short names are mostly used
+                if (random.nextInt(4) == 0) {
+                    length++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * A garden with about 1 rock in 7 tiles and the start in the center.
+ * <p>
+ * Like the puzzle input, the garden has an odd side and the row and column of the start and the edges have no rocks,
+ * which part 2 depends on.
+ * The size is the side of the square garden, rounded up to an odd number.
+ */
+class Day21Generator implements Generator {
+
+    @Override
+    public int baseSize() {
+        return 131;
+    }
+
+    @Override
+    public int size(int scale) {
+        return Generator.gridSize(baseSize(), scale);
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var side = size | 1;
+        var center = side / 2;
+        var row = new char[side];
+        for (var i = 0; i < side; i++) {
+            for (var j = 0; j < side; j++) {
+                var clear = i == 0 || j == 0 || i == side - 1 || j == side - 1 || i == center || j == center;
+                row[j] = clear || random.nextInt(7) != 0 ? '.' : '#';
+            }
+            if (i == center) {
+                row[center] = 'S';
+            }
+            out.write(row);
+            out.write('\n');
+        }
+    }
+}
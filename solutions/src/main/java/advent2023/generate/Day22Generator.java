@@ -0,0 +1,70 @@
+package advent2023.generate;
+
+import advent2023.LongHashSet;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * A snapshot of falling bricks of 1 to 4 cubes in a 10 by 10 column, like the puzzle input.
+ * <p>
+ * Bricks are placed at random heights, with about 3 bricks for each level, and a brick that overlaps a brick already
+ * placed is moved.
+ * The size is the number of bricks.
+ */
+class Day22Generator implements Generator {
+
+    private static final int WIDTH = 10;
+
+    @Override
+    public int baseSize() {
+        return 1400;
+    }
+
+    @Override
+    public void generate(int size, Random random, Writer out) throws IOException {
+        var height = Math.max(4, size / 3);
+        var cubes = new LongHashSet(4 * size);
+        var low = new int[3];
+        var high = new int[3];
+
+        for (var i = 0; i < size; i++) {
+            var axis = random.nextInt(3);
+            var length = 1 + random.nextInt(4);
+            do {
+                low[0] = random.nextInt(WIDTH);
+                low[1] = random.nextInt(WIDTH);
+                low[2] = 1 + random.nextInt(height);
+                System.arraycopy(low, 0, high, 0, 3);
+                high[axis] += length - 1;
+            } while (high[0] >= WIDTH || high[1] >= WIDTH || overlaps(cubes, low, high));
+
+            for (var x = low[0]; x <= high[0]; x++) {
+                for (var y = low[1]; y <= high[1]; y++) {
+                    for (var z = low[2]; z <= high[2]; z++) {
+                        cubes.add(cube(x, y, z));
+                    }
+                }
+            }
+            out.write(low[0] + "," + low[1] + "," + low[2] + "~" + high[0] + "," + high[1] + "," + high[2] + "\n");
+        }
+    }
+
+    private static boolean overlaps(LongHashSet cubes, int[] low, int[] high) {
+        for (var x = low[0]; x <= high[0]; x++) {
+            for (var y = low[1]; y <= high[1]; y++) {
+                for (var z = low[2]; z <= high[2]; z++) {
+                    if (cubes.contains(cube(x, y, z))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long cube(int x, int y, int z) {
+        return (long) z * WIDTH * WIDTH + y * WIDTH + x;
+    }
+}
@@ -0,0 +1,79 @@
+package advent2023.generate;
+
+import advent2023.Runner;
+import advent2023.Solvers;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Writes generated inputs for any subset of days, named like the puzzle inputs so they can be run with
+ * {@code Runner --input=<output>}.
+ * <p>
+ * Usage: {@code Generate [days...] [--scale=1] [--size=n] [--seed=1] [--output=generated]}
+ * <ul>
+ *     <li>days: day numbers or ranges, e.g., "1 3 5-7" (default: all days)
+ *     <li>--scale: the size of the inputs relative to the puzzle inputs (default: 1)
+ *     <li>--size: the size of the inputs in each day's own unit, e.g., lines or the side of a grid, instead of a scale
+ *     <li>--seed: the random seed (default: 1)
+ *     <li>--output: the directory to write the dayNN files to, or "-" to write a single day to stdout, e.g., to pipe
+ *         it to {@code StreamRunner} (default: generated)
+ * </ul>
+ */
+public class Generate {
+
+    public static void main(String[] args) throws IOException {
+        var days = new ArrayList<Integer>();
+        var scale = 1;
+        var size = 0;
+        var seed = 1L;
+        var output = "generated";
+
+        for (var arg : args) {
+            if (arg.startsWith("--scale=")) {
+                scale = Integer.parseInt(arg.substring("--scale=".length()));
+            } else if (arg.startsWith("--size=")) {
+                size = Integer.parseInt(arg.substring("--size=".length()));
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring("--seed=".length()));
+            } else if (arg.startsWith("--output=")) {
+                output = arg.substring("--output=".length());
+            } else {
+                days.addAll(Runner.parseNumbers(arg));
+            }
+        }
+        if (days.isEmpty()) {
+            for (var day = 1; day <= Solvers.days(); day++) {
+                days.add(day);
+            }
+        }
+
+        if (output.equals("-")) {
+            if (days.size() != 1) {
+                System.err.println("--output=- writes a single day");
+                System.exit(2);
+            }
+            var generator = Generators.get(days.get(0));
+            var out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII));
+            generator.generate(size > 0 ? size : generator.size(scale), new Random(seed), out);
+            out.flush();
+            return;
+        }
+
+        var outputDir = Path.of(output);
+        Files.createDirectories(outputDir);
+        for (var day : days) {
+            var generator = Generators.get(day);
+            var daySize = size > 0 ? size : generator.size(scale);
+            var path = outputDir.resolve(String.format("day%02d", day));
+            generator.generate(daySize, seed, path);
+            System.out.printf("%s: size %d, %d bytes%n", path, daySize, Files.size(path));
+        }
+    }
+}
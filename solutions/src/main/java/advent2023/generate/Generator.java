@@ -0,0 +1,45 @@
+package advent2023.generate;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Writes a valid puzzle input of any size for a day, so that solvers can be run on inputs much larger than the puzzle
+ * inputs.
+ * <p>
+ * The unit of the size depends on the day, e.g., the number of lines or the side of a square grid.
+ * The same size and seed always produce the same input.
+ */
+public interface Generator {
+
+    void generate(int size, Random random, Writer out) throws IOException;
+
+    /**
+     * Returns the size of an input similar to the day's puzzle input.
+     */
+    int baseSize();
+
+    /**
+     * Returns the size of an input with about {@code scale} times as many bytes as the day's puzzle input.
+     */
+    default int size(int scale) {
+        return baseSize() * scale;
+    }
+
+    default void generate(int size, long seed, Path path) throws IOException {
+        try (var out = Files.newBufferedWriter(path, StandardCharsets.US_ASCII)) {
+            generate(size, new Random(seed), out);
+        }
+    }
+
+    /**
+     * Returns the side of a square grid with about {@code scale} times as many cells as a grid with the base side.
+     */
+    static int gridSize(int baseSide, int scale) {
+        return (int) Math.round(baseSide * Math.sqrt(scale));
+    }
+}
@@ -0,0 +1,32 @@
+package advent2023.generate;
+
+import java.util.List;
+
+/**
+ * The input generators for each day, indexed by day number.
+ */
+public final class Generators {
+
+    private static final List<Generator> GENERATORS = List.of(
+            new Day01Generator(), new Day02Generator(), new Day03Generator(), new Day04Generator(),
+            new Day05Generator(), new Day06Generator(), new Day07Generator(), new Day08Generator(),
+            new Day09Generator(), new Day10Generator(), new Day11Generator(), new Day12Generator(),
+            new Day13Generator(), new Day14Generator(), new Day15Generator(), new Day16Generator(),
+            new Day17Generator(), new Day18Generator(), new Day19Generator(), new Day20Generator(),
+            new Day21Generator(), new Day22Generator());
+
+    private Generators() {
+    }
+
+    /**
+     * Returns the generator for the day.
+     *
+     * @throws IllegalArgumentException if there is no generator for the day
+     */
+    public static Generator get(int day) {
+        if (day < 1 || day > GENERATORS.size()) {
+            throw new IllegalArgumentException("no generator for day " + day);
+        }
+        return GENERATORS.get(day - 1);
+    }
+}
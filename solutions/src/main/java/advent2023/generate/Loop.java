@@ -0,0 +1,157 @@
+package advent2023.generate;
+
+import java.util.Random;
+
+/**
+ * A random closed loop that visits every point of a square lattice once, for puzzles with a loop or a polygon.
+ * <p>
+ * The loop is built around a random maze: each cell of a maze with half the side is a small square of 4 points, and
+ * the squares of cells joined by the maze are merged into one.
+ * Since the maze is a tree, the merged squares form a single loop with no crossings.
+ */
+final class Loop {
+
+    static final int RIGHT = 0;
+    static final int DOWN = 1;
+    static final int LEFT = 2;
+    static final int UP = 3;
+
+    private final int side;
+    // right[r][c]: (r, c) is joined to (r, c + 1), down[r][c]: (r, c) is joined to (r + 1, c)
+    private final boolean[][] right;
+    private final boolean[][] down;
+
+    private Loop(int side) {
+        this.side = side;
+        right = new boolean[side][side];
+        down = new boolean[side][side];
+    }
+
+    /**
+     * Creates a loop on a lattice of {@code 2 * mazeSide} by {@code 2 * mazeSide} points.
+     */
+    static Loop random(int mazeSide, Random random) {
+        var loop = new Loop(2 * mazeSide);
+        for (var i = 0; i < mazeSide; i++) {
+            for (var j = 0; j < mazeSide; j++) {
+                loop.right[2 * i][2 * j] = true;
+                loop.right[2 * i + 1][2 * j] = true;
+                loop.down[2 * i][2 * j] = true;
+                loop.down[2 * i][2 * j + 1] = true;
+            }
+        }
+
+        // a randomized depth-first search maze
+        var visited = new boolean[mazeSide * mazeSide];
+        var stack = new int[mazeSide * mazeSide];
+        var size = 0;
+        stack[size++] = 0;
+        visited[0] = true;
+        var candidates = new int[4];
+        while (size > 0) {
+            var cell = stack[size - 1];
+            var i = cell / mazeSide;
+            var j = cell % mazeSide;
+            var count = 0;
+            if (j + 1 < mazeSide && !visited[cell + 1]) {
+                candidates[count++] = RIGHT;
+            }
+            if (i + 1 < mazeSide && !visited[cell + mazeSide]) {
+                candidates[count++] = DOWN;
+            }
+            if (j > 0 && !visited[cell - 1]) {
+                candidates[count++] = LEFT;
+            }
+            if (i > 0 && !visited[cell - mazeSide]) {
+                candidates[count++] = UP;
+            }
+            if (count == 0) {
+                size--;
+                continue;
+            }
+
+            var next = switch (candidates[random.nextInt(count)]) {
+                case RIGHT -> {
+                    loop.joinRight(i, j);
+                    yield cell + 1;
+                }
+                case DOWN -> {
+                    loop.joinDown(i, j);
+                    yield cell + mazeSide;
+                }
+                case LEFT -> {
+                    loop.joinRight(i, j - 1);
+                    yield cell - 1;
+                }
+                default -> {
+                    loop.joinDown(i - 1, j);
+                    yield cell - mazeSide;
+                }
+            };
+            visited[next] = true;
+            stack[size++] = next;
+        }
+        return loop;
+    }
+
+    /**
+     * Merges the squares of maze cell (i, j) and maze cell (i, j + 1).
+     */
+    private void joinRight(int i, int j) {
+        down[2 * i][2 * j + 1] = false;
+        down[2 * i][2 * j + 2] = false;
+        right[2 * i][2 * j + 1] = true;
+        right[2 * i + 1][2 * j + 1] = true;
+    }
+
+    /**
+     * Merges the squares of maze cell (i, j) and maze cell (i + 1, j).
+     */
+    private void joinDown(int i, int j) {
+        right[2 * i + 1][2 * j] = false;
+        right[2 * i + 2][2 * j] = false;
+        down[2 * i + 1][2 * j] = true;
+        down[2 * i + 1][2 * j + 1] = true;
+    }
+
+    /**
+     * Returns the number of points on each side of the lattice.
+     */
+    int side() {
+        return side;
+    }
+
+    boolean joined(int row, int col, int direction) {
+        return switch (direction) {
+            case RIGHT -> right[row][col];
+            case DOWN -> down[row][col];
+            case LEFT -> col > 0 && right[row][col - 1];
+            default -> row > 0 && down[row - 1][col];
+        };
+    }
+
+    /**
+     * Returns the direction of each step around the loop, starting at the top left point.
+     */
+    int[] walk() {
+        var steps = new int[side * side];
+        var row = 0;
+        var col = 0;
+        var previous = -1;
+        for (var k = 0; k < steps.length; k++) {
+            var direction = 0;
+            while (!joined(row, col, direction) || direction == (previous + 2) % 4) {
+                direction++;
+            }
+            steps[k] = direction;
+            previous = direction;
+            switch (direction) {
+                case RIGHT -> col++;
+                case DOWN -> row++;
+                case LEFT -> col--;
+                default -> row--;
+            }
+        }
+        return steps;
+    }
+}
@@ -0,0 +1,21 @@
+package advent2023.generate;
+
+import java.util.Random;
+
+/**
+ * Random helpers shared by the generators.
+ */
+final class Randoms {
+
+    private Randoms() {
+    }
+
+    static void shuffle(int[] values, Random random) {
+        for (var i = values.length - 1; i > 0; i--) {
+            var j = random.nextInt(i + 1);
+            var temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package advent2023;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the bytes allocated by each phase of each day on its puzzle input are within the day's budget in
+ * {@code allocation-budgets.csv}, where part 0 is the parse phase, like in {@link Reports}.
+ * <p>
+ * Each phase is run more than once and the fewest bytes allocated by a run are compared to the budget, since the
+ * first run also allocates for class initialization.
+ * The budgets are about 1.5 times the allocations when they were set, and at least 100 KB, so that a change that
+ * allocates much more fails, but noise does not.
+ * A budget should be lowered after a change that allocates less, and only raised on purpose.
+ */
+class AllocationBudgetTest {
+
+    private static final int RUNS = 3;
+
+    @ParameterizedTest(name = "day {0} part {1}")
+    @CsvFileSource(resources = "/allocation-budgets.csv", numLinesToSkip = 1)
+    void allocations(int day, int part, long budget) throws IOException {
+        var solver = Solvers.get(day);
+        var input = PuzzleInputs.input(day);
+        var parsed = solver.parse(input);
+
+        var allocated = Long.MAX_VALUE;
+        for (var i = 0; i < RUNS; i++) {
+            if (part == 0) {
+                var probe = Probe.start(day, 0, Phase.PARSE);
+                solver.parse(input);
+                allocated = Math.min(allocated, probe.stop().allocatedBytes());
+            } else {
+                var probe = Probe.start(day, part, Phase.SOLVE);
+                solver.solve(parsed, part == 1);
+                allocated = Math.min(allocated, probe.stop().allocatedBytes());
+            }
+        }
+
+        var bytes = allocated;
+        assertTrue(bytes <= budget, () -> String.format("day %d part %d allocated %,d bytes, over its budget of %,d",
+                day, part, bytes, budget));
+    }
+}
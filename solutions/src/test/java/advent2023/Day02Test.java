@@ -0,0 +1,83 @@
+package advent2023;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the {@link Day02.GameTable} against the single-pass fold, and colors other than red, green and blue.
+ */
+class Day02Test {
+
+    private static final int[][] PROFILES = {
+            { 12, 13, 14 }, { 0, 0, 0 }, { 20, 20, 20 }, { 5, 10, 15 }, { 15, 10, 5 }, { 12, 0, 14 } };
+
+    @Test
+    void tableMatchesFoldForEachProfile() throws IOException {
+        var input = PuzzleInputs.input(2);
+        var table = new Day02().table(input);
+        var sums = table.possibleSums(PROFILES);
+        for (var i = 0; i < PROFILES.length; i++) {
+            var expected = fold(new Day02(limits(List.of("red", "green", "blue"), PROFILES[i])), input, true);
+            assertEquals(expected, table.possibleSum(PROFILES[i]));
+            assertEquals(expected, sums[i]);
+        }
+        assertEquals(fold(new Day02(), input, false), table.powerSum());
+    }
+
+    @Test
+    void limitEqualToTheMaximumIsPossible() {
+        var input = Input.of("Game 1: 3 red, 2 green; 1 blue\nGame 2: 4 red\nGame 3: 2 green, 1 blue; 3 red\n");
+        var table = new Day02().table(input);
+        assertEquals(3, table.size());
+        assertEquals(4, table.possibleSum(3, 2, 1));
+        assertEquals(6, table.possibleSum(4, 2, 1));
+        assertEquals(0, table.possibleSum(2, 2, 1));
+        assertEquals(2, table.possibleSum(4, 1, 1));
+        assertEquals(2, table.possibleSum(4, 2, 0));
+        assertArrayEquals(new long[] { 4, 6 }, table.possibleSums(new int[][] { { 3, 2, 1 }, { 4, 2, 1 } }));
+        assertEquals(4, fold(new Day02(limits(List.of("red", "green", "blue"), 3, 2, 1)), input, true));
+    }
+
+    @Test
+    void customColors() {
+        // the colors share their first letter, and red is not a color of the solver
+        var day = new Day02(limits(List.of("cyan", "cerise"), 2, 5));
+        var input = Input.of("Game 7: 2 cyan, 5 cerise; 1 red\nGame 8: 3 cyan\nGame 9: 6 cerise, 1 cyan\n");
+        assertEquals(List.of("cyan", "cerise"), day.colors());
+
+        var table = day.parse(input);
+        assertEquals(7, day.solve(table, true));
+        assertEquals(7, fold(day, input, true));
+        assertEquals(2 * 5 + 3 * 0 + 1 * 6, day.solve(table, false));
+        assertEquals(2 * 5 + 3 * 0 + 1 * 6, fold(day, input, false));
+        assertEquals(7 + 9, table.possibleSum(2, 6));
+    }
+
+    @Test
+    void limitsForEachColor() {
+        var table = new Day02().table(Input.of("Game 1: 1 red\n"));
+        assertThrows(IllegalArgumentException.class, () -> table.possibleSum(1, 2));
+    }
+
+    private static Map<String, Integer> limits(List<String> colors, int... limits) {
+        var map = new LinkedHashMap<String, Integer>();
+        for (var i = 0; i < colors.size(); i++) {
+            map.put(colors.get(i), limits[i]);
+        }
+        return map;
+    }
+
+    private static long fold(Day02 day, Input input, boolean part1) {
+        var fold = day.fold(part1);
+        fold.addLines(input, 0, input.length());
+        return fold.answer();
+    }
+}
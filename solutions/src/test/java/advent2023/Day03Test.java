@@ -0,0 +1,57 @@
+package advent2023;
+
+import advent2023.generate.Generators;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks which gear a number is given to, and that bands of rows folded on their own add up to the whole schematic.
+ */
+class Day03Test {
+
+    @Test
+    void numberIsGivenToTheFirstGearNextToIt() {
+        // the 4 is next to both gears, but only the gear to its right has it
+        var input = Input.of("4*.\n.*6\n");
+        assertEquals(24, new Day03().solve(input, false));
+    }
+
+    @Test
+    void gearWithAThirdNumberHasNoRatio() {
+        var input = Input.of("2.3\n.*.\n4..\n1*5\n");
+        assertEquals(5, new Day03().solve(input, false));
+    }
+
+    @Test
+    void bandsAddUpToTheSchematic() throws IOException {
+        var out = new StringWriter();
+        Generators.get(3).generate(40, new Random(1), out);
+        var input = Input.of(out.toString());
+        var day = new Day03();
+
+        for (var part1 : new boolean[] { true, false }) {
+            var expected = day.solve(input, part1);
+            for (var rowsPerBand = 1; rowsPerBand <= 4; rowsPerBand++) {
+                var sum = 0L;
+                for (var line = 0; line < input.lineCount(); line += rowsPerBand) {
+                    var fold = day.fold(part1);
+                    fold.addLines(input, lineStart(input, line), lineStart(input, line + rowsPerBand));
+                    sum += fold.answer();
+                }
+                assertEquals(expected, sum, "part " + (part1 ? 1 : 2) + ", " + rowsPerBand + " rows per band");
+            }
+        }
+    }
+
+    private static long lineStart(Input input, int line) {
+        if (line >= input.lineCount()) {
+            return input.length();
+        }
+        return input.line(line).start();
+    }
+}
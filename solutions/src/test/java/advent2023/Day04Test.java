@@ -0,0 +1,47 @@
+package advent2023;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the points of cards with more matches than fit in an int, which is allowed by the 128-bit sets of numbers.
+ */
+class Day04Test {
+
+    @Test
+    void pointsPastAnInt() {
+        assertEquals(1L << 31, part1(card(32)));
+        assertEquals(1L << 62, part1(card(63)));
+        assertEquals((1L << 62) + (1L << 31), part1(card(63) + card(32)));
+    }
+
+    @Test
+    void pointsPastALongThrow() {
+        assertThrows(ArithmeticException.class, () -> part1(card(64)));
+        assertThrows(ArithmeticException.class, () -> part1(card(63) + card(63)));
+    }
+
+    /**
+     * Returns Part 1 of the cards, checking that the fold gives the same answer.
+     */
+    private static long part1(String cards) {
+        var input = Input.of(cards);
+        var day = new Day04();
+        var answer = day.solve(day.parse(input), true);
+        assertEquals(answer, day.fold(true).addAll(input).answer());
+        return answer;
+    }
+
+    /**
+     * Returns a card whose numbers are 1 to {@code matches}, which are all winning numbers.
+     */
+    private static String card(int matches) {
+        var numbers = new StringBuilder();
+        for (var number = 1; number <= matches; number++) {
+            numbers.append(' ').append(number);
+        }
+        return "Card 1:" + numbers + " |" + numbers + "\n";
+    }
+}
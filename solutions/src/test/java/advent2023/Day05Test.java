@@ -0,0 +1,91 @@
+package advent2023;
+
+import advent2023.generate.Generators;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the seed ranges of Part 2 on small almanacs, and the {@link Day05.LocationTable} against searching each map
+ * in turn.
+ */
+class Day05Test {
+
+    private static final String MAP = "\nseed-to-soil map:\n10 40 20\n";
+
+    @Test
+    void emptyRangeHasNoLocation() {
+        assertEquals(90, part2("seeds: 50 0 90 5\n" + MAP));
+    }
+
+    @Test
+    void rangeSplitAtTheMapping() {
+        // 35 to 39 are not mapped, and 40 to 44 are mapped to 10 to 14
+        assertEquals(10, part2("seeds: 35 10\n" + MAP));
+        // 55 to 59 are mapped to 25 to 29, and 60 to 64 are not mapped
+        assertEquals(25, part2("seeds: 55 10\n" + MAP));
+    }
+
+    @Test
+    void tableMatchesTheMaps() throws IOException {
+        for (var seed = 1; seed <= 3; seed++) {
+            var out = new StringWriter();
+            Generators.get(5).generate(200, new Random(seed), out);
+            var day = new Day05();
+            var almanac = day.parse(Input.of(out.toString()));
+            var table = day.table(almanac);
+
+            // the bounds of every mapping, where the table has its ranges, and random seeds
+            var seeds = new ArrayList<Long>();
+            for (var map : almanac.maps()) {
+                for (var mapping : map) {
+                    seeds.add(mapping.src - 1);
+                    seeds.add(mapping.src);
+                    seeds.add(mapping.src + mapping.range - 1);
+                    seeds.add(mapping.src + mapping.range);
+                }
+            }
+            var random = new SplittableRandom(seed);
+            for (var i = 0; i < 100_000; i++) {
+                seeds.add(random.nextLong(0, 1L << 33));
+            }
+            for (var s : seeds) {
+                assertEquals(almanac.location(s), table.location(s), "seed " + s);
+            }
+        }
+    }
+
+    @Test
+    void tableOfTheMapping() {
+        var day = new Day05();
+        var table = day.table(day.parse(Input.of("seeds: 1\n" + MAP)));
+        assertEquals(3, table.segments());
+        assertEquals(39, table.location(39));
+        assertEquals(10, table.location(40));
+        assertEquals(29, table.location(59));
+        assertEquals(60, table.location(60));
+        assertEquals(-1, table.location(-1));
+    }
+
+    @Test
+    void emptyMappingInsideTheRange() {
+        var almanac = "seeds: 35 10\n\nseed-to-soil map:\n100 40 0\n";
+        var day = new Day05();
+        var table = day.table(day.parse(Input.of(almanac)));
+        assertEquals(1, table.segments());
+        assertEquals(40, table.location(40));
+        assertEquals(10, day.solve(day.parse(Input.of(almanac)), true));
+        assertEquals(35, part2(almanac));
+    }
+
+    private static long part2(String almanac) {
+        var day = new Day05();
+        return day.solve(day.parse(Input.of(almanac)), false);
+    }
+}
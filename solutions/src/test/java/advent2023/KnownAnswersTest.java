@@ -0,0 +1,49 @@
+package advent2023;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that every way of solving each day gives the known answer for its puzzle input in {@code answers.csv}.
+ */
+class KnownAnswersTest {
+
+    @ParameterizedTest(name = "day {0} part {1}")
+    @CsvFileSource(resources = "/answers.csv", numLinesToSkip = 1)
+    void solve(int day, int part, long answer) throws IOException {
+        var solver = Solvers.get(day);
+        assertEquals(answer, solver.solve(solver.parse(PuzzleInputs.input(day)), part == 1));
+    }
+
+    @ParameterizedTest(name = "day {0} part {1}")
+    @CsvFileSource(resources = "/answers.csv", numLinesToSkip = 1)
+    void fold(int day, int part, long answer) throws IOException {
+        var solver = streamingSolver(day);
+        assertEquals(answer, solver.fold(part == 1).addAll(PuzzleInputs.input(day)).answer());
+    }
+
+    @ParameterizedTest(name = "day {0} part {1}")
+    @CsvFileSource(resources = "/answers.csv", numLinesToSkip = 1)
+    void foldParallel(int day, int part, long answer) throws IOException {
+        var solver = streamingSolver(day);
+        Assumptions.assumeTrue(solver instanceof ParallelSolver, "day " + day + " cannot be folded in parallel");
+        var pool = new ForkJoinPool(4);
+        try {
+            assertEquals(answer, ((ParallelSolver) solver).solveParallel(PuzzleInputs.input(day), part == 1, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static StreamingSolver streamingSolver(int day) {
+        var solver = Solvers.get(day);
+        Assumptions.assumeTrue(solver instanceof StreamingSolver, "day " + day + " cannot be streamed");
+        return (StreamingSolver) solver;
+    }
+}
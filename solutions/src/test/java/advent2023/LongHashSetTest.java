@@ -0,0 +1,59 @@
+package advent2023;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks a {@link LongHashSet} against a {@link HashSet}, including the key 0, which is not stored in the array.
+ */
+class LongHashSetTest {
+
+    @Test
+    void matchesHashSet() {
+        var set = new LongHashSet(4);
+        var expected = new HashSet<Long>();
+        var random = new SplittableRandom(1);
+        for (var i = 0; i < 100_000; i++) {
+            // a small range so that keys repeat
+            var key = random.nextLong(-5_000, 5_000) * 31;
+            assertEquals(expected.add(key), set.add(key));
+        }
+        assertEquals(expected.size(), set.size());
+        for (var key = -200_000L; key < 200_000; key++) {
+            assertEquals(expected.contains(key), set.contains(key));
+        }
+    }
+
+    @Test
+    void extremeKeys() {
+        var set = new LongHashSet();
+        for (var key : new long[] { 0, Long.MIN_VALUE, Long.MAX_VALUE, -1, 1 }) {
+            assertFalse(set.contains(key));
+            assertTrue(set.add(key));
+            assertFalse(set.add(key));
+            assertTrue(set.contains(key));
+        }
+        assertEquals(5, set.size());
+    }
+
+    @Test
+    void clearKeepsTheSetUsable() {
+        var set = new LongHashSet();
+        for (var key = 0L; key < 1_000; key++) {
+            set.add(key);
+        }
+        set.clear();
+        assertEquals(0, set.size());
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(500));
+        assertTrue(set.add(0));
+        assertTrue(set.add(500));
+        assertEquals(2, set.size());
+    }
+}
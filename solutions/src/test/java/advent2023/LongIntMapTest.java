@@ -0,0 +1,90 @@
+package advent2023;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks a {@link LongIntMap} against a {@link HashMap}, including the key 0, which is not stored in the arrays.
+ */
+class LongIntMapTest {
+
+    @Test
+    void matchesHashMap() {
+        var map = new LongIntMap(4);
+        var expected = new HashMap<Long, Integer>();
+        var random = new SplittableRandom(1);
+        for (var i = 0; i < 100_000; i++) {
+            // a small range so that keys repeat and their values are overwritten
+            var key = random.nextLong(-5_000, 5_000) * 31;
+            var value = random.nextInt();
+            map.put(key, value);
+            expected.put(key, value);
+        }
+        assertEquals(expected.size(), map.size());
+        for (var key = -200_000L; key < 200_000; key++) {
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+            assertEquals(expected.getOrDefault(key, -1), map.get(key, -1));
+        }
+    }
+
+    @Test
+    void zeroAndNegativeKeys() {
+        var map = new LongIntMap();
+        for (var key : new long[] { 0, -1, Long.MIN_VALUE, Long.MAX_VALUE, 1 }) {
+            assertFalse(map.containsKey(key));
+            assertEquals(-7, map.get(key, -7));
+            map.put(key, (int) key + 3);
+            assertTrue(map.containsKey(key));
+            assertEquals((int) key + 3, map.get(key, -7));
+        }
+        assertEquals(5, map.size());
+    }
+
+    @Test
+    void overwriteKeepsTheSize() {
+        var map = new LongIntMap();
+        map.put(0, 1);
+        map.put(0, 2);
+        map.put(-42, 1);
+        map.put(-42, 3);
+        assertEquals(2, map.size());
+        assertEquals(2, map.get(0, -1));
+        assertEquals(3, map.get(-42, -1));
+    }
+
+    @Test
+    void growsPastTheResizeThreshold() {
+        var map = new LongIntMap(4);
+        for (var key = 0L; key < 10_000; key++) {
+            map.put(key << 32, (int) key);
+        }
+        assertEquals(10_000, map.size());
+        for (var key = 0L; key < 10_000; key++) {
+            assertEquals((int) key, map.get(key << 32, -1));
+        }
+    }
+
+    @Test
+    void clearKeepsTheMapUsable() {
+        var map = new LongIntMap();
+        for (var key = 0L; key < 1_000; key++) {
+            map.put(key, (int) key);
+        }
+        map.clear();
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(0));
+        assertFalse(map.containsKey(500));
+        assertEquals(-1, map.get(500, -1));
+        map.put(0, 5);
+        map.put(500, 6);
+        assertEquals(2, map.size());
+        assertEquals(5, map.get(0, -1));
+        assertEquals(6, map.get(500, -1));
+    }
+}
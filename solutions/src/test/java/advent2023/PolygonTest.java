@@ -0,0 +1,65 @@
+package advent2023;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the counts of a {@link Polygon} against polygons whose counts are known, including polygons whose area does
+ * not fit in a long.
+ */
+class PolygonTest {
+
+    @Test
+    void square() {
+        var polygon = square(3);
+        assertEquals(18, polygon.twiceArea());
+        assertEquals(12, polygon.boundaryPoints());
+        assertEquals(4, polygon.interiorPoints());
+        assertEquals(16, polygon.latticePoints());
+    }
+
+    @Test
+    void triangle() {
+        var polygon = new Polygon();
+        polygon.add(0, 0);
+        polygon.add(0, 4);
+        polygon.add(4, 0);
+        assertEquals(16, polygon.twiceArea());
+        assertEquals(12, polygon.boundaryPoints());
+        assertEquals(3, polygon.interiorPoints());
+        assertEquals(15, polygon.latticePoints());
+    }
+
+    @Test
+    void countsFitWhenTwiceTheAreaDoesNot() {
+        var side = 3_000_000_000L;
+        var polygon = square(side);
+
+        var twiceArea = BigInteger.valueOf(side).pow(2).shiftLeft(1);
+        assertEquals(twiceArea, polygon.exactTwiceArea());
+        assertThrows(ArithmeticException.class, polygon::twiceArea);
+        assertEquals(4 * side, polygon.boundaryPoints());
+        assertEquals((side - 1) * (side - 1), polygon.interiorPoints());
+        assertEquals((side + 1) * (side + 1), polygon.latticePoints());
+    }
+
+    @Test
+    void countsThatDoNotFitThrow() {
+        var polygon = square(4_000_000_000L);
+        assertThrows(ArithmeticException.class, polygon::interiorPoints);
+        assertThrows(ArithmeticException.class, polygon::latticePoints);
+    }
+
+    private static Polygon square(long side) {
+        var polygon = new Polygon();
+        polygon.add(0, 0);
+        polygon.add(0, side);
+        polygon.add(side, side);
+        polygon.add(side, 0);
+        return polygon;
+    }
+}
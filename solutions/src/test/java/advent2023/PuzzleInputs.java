@@ -0,0 +1,21 @@
+package advent2023;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Locates the puzzle input for a day.
+ * The input directory is set with the {@code advent2023.input} system property and defaults to {@code input}.
+ */
+final class PuzzleInputs {
+
+    private PuzzleInputs() {
+    }
+
+    static Input input(int day) throws IOException {
+        var dir = System.getProperty("advent2023.input", "input");
+        var input = Input.map(Path.of(dir, String.format("day%02d", day)));
+        input.lineCount(); // index the lines
+        return input;
+    }
+}
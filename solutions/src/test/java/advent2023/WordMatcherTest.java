@@ -0,0 +1,77 @@
+package advent2023;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the first and the last occurrence found by a {@link WordMatcher} on dictionaries with nested and overlapping
+ * words.
+ */
+class WordMatcherTest {
+
+    @Test
+    void wordThatStartsFirstEndsAfterANestedWord() {
+        var matcher = WordMatcher.of(Map.of("abcd", 1, "bc", 2));
+        assertEquals(1, matcher.first(slice("xabcdx")));
+        assertEquals(2, matcher.last(slice("xabcdx")));
+        assertEquals(2, matcher.first(slice("xabcx")));
+    }
+
+    @Test
+    void overlappingWords() {
+        var matcher = WordMatcher.of(Map.of("abc", 1, "bcde", 2));
+        assertEquals(1, matcher.first(slice("abcde")));
+        assertEquals(2, matcher.last(slice("abcde")));
+        assertEquals(1, matcher.first(slice("abcxbcde")));
+        assertEquals(2, matcher.first(slice("abxbcde")));
+        assertEquals(2, matcher.first(slice("xbcde")));
+    }
+
+    @Test
+    void longestWordAtTheSameStart() {
+        var matcher = WordMatcher.of(Map.of("ab", 1, "abcd", 2, "abc", 3));
+        assertEquals(2, matcher.first(slice("abcdx")));
+        assertEquals(2, matcher.last(slice("abcdx")));
+        assertEquals(3, matcher.first(slice("abcx")));
+        assertEquals(1, matcher.first(slice("abx")));
+    }
+
+    @Test
+    void wordThatEndsTheLine() {
+        var matcher = WordMatcher.of(Map.of("aaab", 1, "aab", 2, "ab", 3));
+        assertEquals(1, matcher.first(slice("aaab")));
+        assertEquals(3, matcher.last(slice("aaab")));
+        assertEquals(2, matcher.first(slice("xaab")));
+    }
+
+    @Test
+    void spelledOutNumbers() {
+        var matcher = Day01.numbers(List.of("zero", "one", "two", "three", "four", "five", "six", "seven", "eight",
+                "nine"));
+        assertEquals(2, matcher.first(slice("xtwone3four")));
+        assertEquals(4, matcher.last(slice("xtwone3four")));
+        assertEquals(8, matcher.first(slice("eightwothree")));
+        assertEquals(1, matcher.last(slice("zoneight2one")));
+    }
+
+    @Test
+    void noWord() {
+        var matcher = WordMatcher.of(Map.of("abc", 1));
+        assertEquals(-1, matcher.first(slice("abxbc")));
+        assertEquals(-1, matcher.last(slice("xyz")));
+    }
+
+    @Test
+    void emptyWord() {
+        assertThrows(IllegalArgumentException.class, () -> WordMatcher.of(Map.of("", 1)));
+    }
+
+    private static ByteSlice slice(String line) {
+        return Input.of(line).line(0);
+    }
+}